@@ -0,0 +1,68 @@
+package com.danielfreitassc.backend.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.danielfreitassc.backend.dtos.ReservationResponseDto;
+import com.danielfreitassc.backend.dtos.RoomResponseDto;
+import com.danielfreitassc.backend.mappers.ReservationMapper;
+import com.danielfreitassc.backend.mappers.ReservationMapperImpl;
+import com.danielfreitassc.backend.mappers.RoomMapper;
+import com.danielfreitassc.backend.mappers.RoomMapperImpl;
+import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.danielfreitassc.backend.models.UserEntity;
+import com.danielfreitassc.backend.models.UserRole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private ReservationMapper reservationMapper;
+    private RoomMapper roomMapper;
+    private RoomEntity room;
+    private ReservationEntity reservation;
+
+    @Setup
+    public void setUp() {
+        roomMapper = new RoomMapperImpl();
+        reservationMapper = new ReservationMapperImpl(roomMapper);
+
+        room = new RoomEntity(UUID.randomUUID(), "Sala de Reunião", "AC466", "Bloco C", 40, 29900L, RoomStatus.RESERVADO, Timestamp.from(Instant.now()));
+        UserEntity user = new UserEntity("Maria", "maria", "SenhaForte123", UserRole.CUSTOMER);
+        user.setId(UUID.randomUUID());
+        user.setLastName("Silva");
+
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 1, 9, 0);
+        reservation = new ReservationEntity(UUID.randomUUID(), room, user, startTime, startTime.plusHours(2), RoomStatus.RESERVADO, BigDecimal.valueOf(598), Timestamp.from(Instant.now()));
+    }
+
+    @Benchmark
+    public ReservationResponseDto reservationToDto() {
+        return reservationMapper.toDto(reservation);
+    }
+
+    @Benchmark
+    public RoomResponseDto roomToDto() {
+        return roomMapper.toDto(room);
+    }
+}
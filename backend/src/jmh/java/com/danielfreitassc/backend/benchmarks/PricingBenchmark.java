@@ -0,0 +1,55 @@
+package com.danielfreitassc.backend.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.danielfreitassc.backend.services.PricingService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+    private PricingService pricingService;
+    private RoomEntity room;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+
+    @Setup
+    public void setUp() {
+        // Tabela com pico, fim de semana e local para medir o caso com multiplicadores
+        pricingService = new PricingService("08:00", "18:00", new BigDecimal("1.25"), new BigDecimal("0.90"), new BigDecimal("0.80"), "Bloco C=1.10");
+        room = new RoomEntity(UUID.randomUUID(), "Sala de Reunião", "AC466", "Bloco C", 40, 29990L, RoomStatus.DISPONIVEL, Timestamp.from(Instant.now()));
+        startTime = LocalDateTime.of(2024, 10, 1, 9, 0);
+        endTime = startTime.plusMinutes(97);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalCost() {
+        return pricingService.calculateTotalCost(room, startTime, endTime);
+    }
+
+    @Benchmark
+    public long calculateTotalCostCents() {
+        return pricingService.calculateTotalCostCents(room, startTime, endTime);
+    }
+}
@@ -0,0 +1,89 @@
+package com.danielfreitassc.backend.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.danielfreitassc.backend.mappers.ReservationCompactMapper;
+import com.danielfreitassc.backend.mappers.ReservationMapper;
+import com.danielfreitassc.backend.mappers.ReservationMapperImpl;
+import com.danielfreitassc.backend.mappers.RoomMapper;
+import com.danielfreitassc.backend.mappers.RoomMapperImpl;
+import com.danielfreitassc.backend.mappers.UserMapperImpl;
+import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.danielfreitassc.backend.models.UserEntity;
+import com.danielfreitassc.backend.models.UserRole;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+/**
+ * Página de 100 reservas de 5 salas e 10 usuários, mapeada e serializada como em GET /reservation/scroll
+ * (view=full) e GET /reservation/scroll?view=compact.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservationListBenchmark {
+    private static final int RESERVATIONS = 100;
+
+    private ReservationMapper reservationMapper;
+    private ReservationCompactMapper reservationCompactMapper;
+    private ObjectMapper objectMapper;
+    private final List<ReservationEntity> reservations = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        RoomMapper roomMapper = new RoomMapperImpl();
+        reservationMapper = new ReservationMapperImpl(roomMapper);
+        reservationCompactMapper = new ReservationCompactMapper(roomMapper, new UserMapperImpl());
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+        List<RoomEntity> rooms = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rooms.add(new RoomEntity(UUID.randomUUID(), "Sala de Reunião " + i, "AC46" + i, "Bloco C", 40, 29900L, RoomStatus.RESERVADO, Timestamp.from(Instant.now())));
+        }
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            UserEntity user = new UserEntity("Maria", "maria" + i, "SenhaForte123", UserRole.CUSTOMER);
+            user.setId(UUID.randomUUID());
+            user.setLastName("Silva");
+            users.add(user);
+        }
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 1, 9, 0);
+        for (int i = 0; i < RESERVATIONS; i++) {
+            reservations.add(new ReservationEntity(UUID.randomUUID(), rooms.get(i % rooms.size()), users.get(i % users.size()), startTime.plusHours(i), startTime.plusHours(i + 1), RoomStatus.RESERVADO, BigDecimal.valueOf(299), Timestamp.from(Instant.now())));
+        }
+    }
+
+    @Benchmark
+    public byte[] fullPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reservations.stream().map(reservationMapper::toDto).toList());
+    }
+
+    @Benchmark
+    public byte[] compactPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reservationCompactMapper.toPage(reservations, null, null));
+    }
+}
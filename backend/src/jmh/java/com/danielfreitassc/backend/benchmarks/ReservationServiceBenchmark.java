@@ -0,0 +1,100 @@
+package com.danielfreitassc.backend.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.danielfreitassc.backend.BackendApplication;
+import com.danielfreitassc.backend.dtos.ReservationRequestDto;
+import com.danielfreitassc.backend.dtos.ReservationResponseDto;
+import com.danielfreitassc.backend.dtos.RoomRequestDto;
+import com.danielfreitassc.backend.dtos.RoomResponseDto;
+import com.danielfreitassc.backend.dtos.UserRequestDto;
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.danielfreitassc.backend.models.UserRole;
+import com.danielfreitassc.backend.services.ReservationService;
+import com.danielfreitassc.backend.services.RoomService;
+import com.danielfreitassc.backend.services.UserService;
+
+/**
+ * Sobe a aplicação completa com H2 em memória no lugar do PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReservationServiceBenchmark {
+    private static final int ROOMS = 50;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private RoomService roomService;
+    private final List<UUID> roomIds = new ArrayList<>();
+    private UUID userId;
+    private final AtomicLong sequence = new AtomicLong();
+    private final LocalDateTime origin = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driverClassName=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.flyway.enabled=false",
+                        "--outbox.publisher.enabled=false",
+                        "--logging.level.root=WARN");
+        reservationService = context.getBean(ReservationService.class);
+        roomService = context.getBean(RoomService.class);
+
+        for (int i = 0; i < ROOMS; i++) {
+            RoomResponseDto room = roomService.create(new RoomRequestDto("Sala " + i, "R" + i, "Bloco " + (i % 5), 10 + i, BigDecimal.valueOf(150), RoomStatus.DISPONIVEL));
+            roomIds.add(room.id());
+        }
+        userId = context.getBean(UserService.class)
+                .create(new UserRequestDto("Maria", "Silva", "maria", "SenhaForte123", UserRole.CUSTOMER))
+                .id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationResponseDto createReservation() {
+        long n = sequence.getAndIncrement();
+        UUID roomId = roomIds.get((int) (n % ROOMS));
+        LocalDateTime startTime = origin.plusHours(n / ROOMS);
+        return reservationService.create(new ReservationRequestDto(roomId, userId, startTime, startTime.plusMinutes(50)));
+    }
+
+    @Benchmark
+    public Page<RoomResponseDto> searchRooms() {
+        return roomService.getAll(PageRequest.of(0, 20), "sala 1", false);
+    }
+}
@@ -4,12 +4,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.danielfreitassc.backend.infra.datasource.ReplicaRoutingDataSource;
+
 @Configuration
 public class CorsConfig implements WebMvcConfigurer{
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/**").allowedOrigins("*").allowedMethods("GET","POST","PUT","DELETE","PATCH");
+        registry.addMapping("/**").allowedOrigins("*").allowedMethods("GET","POST","PUT","DELETE","PATCH")
+                // Marcador de read-your-writes que o front devolve nas leituras seguintes
+                .exposedHeaders(ReplicaRoutingDataSource.WRITE_MARKER_HEADER);
     }
     
 }
@@ -0,0 +1,56 @@
+package com.danielfreitassc.backend.configurations;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.danielfreitassc.backend.infra.security.PasswordHashingService;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class MetricsConfig {
+
+    // Habilita o @Timed nos services
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService passwordHashingService) {
+        return registry -> {
+            Gauge.builder("password.hashing.pool.size", passwordHashingService, PasswordHashingService::getPoolSize).register(registry);
+            Gauge.builder("password.hashing.active", passwordHashingService, PasswordHashingService::getActiveCount).register(registry);
+            Gauge.builder("password.hashing.queue.size", passwordHashingService, PasswordHashingService::getQueueSize).register(registry);
+            Gauge.builder("password.hashing.queue.capacity", passwordHashingService, PasswordHashingService::getQueueCapacity).register(registry);
+            FunctionCounter.builder("password.hashing.completed", passwordHashingService, PasswordHashingService::getCompletedCount).register(registry);
+            FunctionCounter.builder("password.hashing.rejected", passwordHashingService, PasswordHashingService::getRejectedCount).register(registry);
+        };
+    }
+
+    // Acertos e falhas do cache de segundo nível vêm das estatísticas do Hibernate; aqui só o tamanho das regiões
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String region : hibernateCacheManager.getCacheNames()) {
+                Gauge.builder("hibernate.cache.region.size", hibernateCacheManager, manager -> regionSize(manager, region))
+                        .tags(Tags.of("region", region))
+                        .register(registry);
+            }
+        };
+    }
+
+    private static long regionSize(CacheManager cacheManager, String region) {
+        Cache<Object, Object> cache = cacheManager.getCache(region);
+        if (cache == null) return 0;
+        return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    }
+}
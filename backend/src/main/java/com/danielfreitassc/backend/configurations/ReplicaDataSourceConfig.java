@@ -0,0 +1,97 @@
+package com.danielfreitassc.backend.configurations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.danielfreitassc.backend.infra.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Ativo quando DB_REPLICA_URLS tem ao menos uma URL. O DataSource da aplicação passa a ser um
+ * LazyConnectionDataSourceProxy: a conexão só é aberta no primeiro comando, depois que a transação marcou
+ * readOnly, e transações readOnly usam o ReplicaRoutingDataSource. O resto (escritas, Flyway) vai para o primário.
+ */
+@Configuration
+@ConditionalOnExpression("!'${api.datasource.replica-urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${api.datasource.replica-urls}") String replicaUrls,
+            @Value("${api.datasource.replica.max-lag:2s}") Duration maxLag,
+            @Value("${api.datasource.replica.read-your-writes:5s}") Duration readYourWrites,
+            @Value("${api.datasource.replica.lag-query}") String lagQuery) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList()) {
+            // Mesmas credenciais e tamanho de pool do primário
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(url);
+            config.setPoolName("replica-" + (replicas.size() + 1));
+            config.setReadOnly(true);
+            // Réplica fora do ar não impede a subida; ela só fica fora do rodízio
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, readYourWrites, lagQuery, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    // Marca a resposta de cada escrita antes de executá-la, para que a próxima leitura do cliente não pegue uma réplica atrasada
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        HandlerInterceptor interceptor = new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod()) && request.getUserPrincipal() != null) {
+                    replicaRoutingDataSource.recordWrite(response);
+                }
+                return true;
+            }
+        };
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.danielfreitassc.backend.controllers;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.danielfreitassc.backend.dtos.OccupancyReportRowDto;
+import com.danielfreitassc.backend.dtos.ReportDto;
+import com.danielfreitassc.backend.dtos.RevenueReportRowDto;
+import com.danielfreitassc.backend.services.ReportService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reports")
+public class ReportController {
+    private final ReportService reportService;
+
+    @GetMapping("/revenue")
+    public ReportDto<RevenueReportRowDto> revenue(
+            @RequestParam(name="from") @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+            @RequestParam(name="to") @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate to,
+            @RequestParam(name="groupBy", required=false, defaultValue="room") String groupBy) {
+        return reportService.revenue(from, to, groupBy);
+    }
+
+    @GetMapping("/occupancy")
+    public ReportDto<OccupancyReportRowDto> occupancy(
+            @RequestParam(name="from") @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate from,
+            @RequestParam(name="to") @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate to,
+            @RequestParam(name="groupBy", required=false, defaultValue="room") String groupBy) {
+        return reportService.occupancy(from, to, groupBy);
+    }
+}
@@ -1,24 +1,37 @@
 package com.danielfreitassc.backend.controllers;
 
+import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.danielfreitassc.backend.dtos.ReservationBatchRequestDto;
+import com.danielfreitassc.backend.dtos.ReservationBatchResponseDto;
+import com.danielfreitassc.backend.dtos.ReservationRecurrenceRequestDto;
 import com.danielfreitassc.backend.dtos.ReservationRequestDto;
 import com.danielfreitassc.backend.dtos.ReservationResponseDto;
+import com.danielfreitassc.backend.infra.cluster.RoomRequestRouter;
+import com.danielfreitassc.backend.infra.pagination.PageCursor;
+import com.danielfreitassc.backend.services.ReservationExportService;
 import com.danielfreitassc.backend.services.ReservationService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -27,30 +40,67 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/reservation")
 public class ReservationController {
     private final ReservationService reservationService;
+    private final ReservationExportService reservationExportService;
+    private final RoomRequestRouter roomRequestRouter;
 
+    // Escritas de uma sala vão para a réplica dona dela quando cluster.enabled=true
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public ReservationResponseDto create(@RequestBody @Valid ReservationRequestDto reservationRequestDto) {
-        return reservationService.create(reservationRequestDto);
+    public ResponseEntity<Object> create(@RequestBody @Valid ReservationRequestDto reservationRequestDto, @RequestHeader(name="Idempotency-Key", required=false) String idempotencyKey, Principal principal, HttpServletRequest request) {
+        return roomRequestRouter.route(reservationRequestDto::roomId, request, reservationRequestDto,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(reservationService.create(reservationRequestDto, idempotencyKey, principal.getName())));
     }
 
+    @PostMapping("/batch")
+    public ReservationBatchResponseDto createBatch(@RequestBody @Valid ReservationBatchRequestDto reservationBatchRequestDto, HttpServletRequest request) {
+        return roomRequestRouter.routeBatch(reservationBatchRequestDto.reservations(), request, reservationService::createBatch);
+    }
+
+    @PostMapping("/recurring")
+    public ResponseEntity<Object> createRecurring(@RequestBody @Valid ReservationRecurrenceRequestDto reservationRecurrenceRequestDto, HttpServletRequest request) {
+        return roomRequestRouter.route(() -> reservationRecurrenceRequestDto.reservation().roomId(), request, reservationRecurrenceRequestDto,
+                () -> ResponseEntity.ok(reservationService.createRecurring(reservationRecurrenceRequestDto)));
+    }
+
+    // view=compact: reservas só com roomId/userId e salas e usuários uma vez cada em rooms/users
     @GetMapping
-    public Page<ReservationResponseDto> getAll(Pageable pageable) {
-        return  reservationService.getAllReservations(pageable);
+    public Object getAll(Pageable pageable, @RequestParam(name="view", required=false, defaultValue="full") String view) {
+        return isCompact(view) ? reservationService.getAllReservationsCompact(pageable) : reservationService.getAllReservations(pageable);
     } 
 
+    @GetMapping("/scroll")
+    public Object scroll(@RequestParam(name="cursor", required=false) String cursor, @RequestParam(name="size", required=false, defaultValue=PageCursor.DEFAULT_SIZE) int size, @RequestParam(name="view", required=false, defaultValue="full") String view) {
+        return isCompact(view) ? reservationService.scrollReservationsCompact(cursor, size) : reservationService.scrollReservations(cursor, size);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name="format", required=false, defaultValue="csv") String format,
+            @RequestParam(name="from", required=false) @DateTimeFormat(pattern = "dd/MM/yyyy HH:mm:ss") LocalDateTime from,
+            @RequestParam(name="to", required=false) @DateTimeFormat(pattern = "dd/MM/yyyy HH:mm:ss") LocalDateTime to) {
+        return reservationExportService.export(format, from, to);
+    }
+
     @GetMapping("/{id}")
     public ReservationResponseDto getById(@PathVariable UUID id) {
         return  reservationService.getByid(id);
     }
 
+    // Vai para o dono da sala de destino; se a reserva muda de sala, o dono da sala antiga relê a agenda dela
     @PutMapping("/{id}")
-    public ReservationResponseDto update(@PathVariable UUID id, @RequestBody @Valid ReservationRequestDto reservationRequestDto) {
-        return reservationService.update(id, reservationRequestDto);
+    public ResponseEntity<Object> update(@PathVariable UUID id, @RequestBody @Valid ReservationRequestDto reservationRequestDto, HttpServletRequest request) {
+        return roomRequestRouter.route(reservationRequestDto::roomId, request, reservationRequestDto,
+                () -> ResponseEntity.ok(reservationService.update(id, reservationRequestDto)));
     }
 
     @DeleteMapping("/{id}")
-    public ReservationResponseDto delete(@PathVariable UUID id) {
-        return  reservationService.delete(id);
+    public ResponseEntity<Object> delete(@PathVariable UUID id, HttpServletRequest request) {
+        return roomRequestRouter.route(() -> reservationService.getRoomId(id), request, null,
+                () -> ResponseEntity.ok(reservationService.delete(id)));
+    }
+
+    private static boolean isCompact(String view) {
+        if ("compact".equalsIgnoreCase(view)) return true;
+        if ("full".equalsIgnoreCase(view)) return false;
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "View inválida, use full ou compact");
     }
 }
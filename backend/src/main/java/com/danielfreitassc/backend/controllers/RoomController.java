@@ -1,10 +1,14 @@
 package com.danielfreitassc.backend.controllers;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,10 +19,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.danielfreitassc.backend.dtos.CursorPageDto;
+import com.danielfreitassc.backend.dtos.RoomAvailabilityCheckDto;
 import com.danielfreitassc.backend.dtos.RoomRequestDto;
 import com.danielfreitassc.backend.dtos.RoomResponseDto;
+import com.danielfreitassc.backend.infra.pagination.PageCursor;
 import com.danielfreitassc.backend.services.RoomService;
+import com.danielfreitassc.backend.services.RoomStatusBroadcaster;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class RoomController {
     private final RoomService roomService;
+    private final RoomStatusBroadcaster roomStatusBroadcaster;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -36,8 +46,40 @@ public class RoomController {
     }
 
     @GetMapping
-    public Page<RoomResponseDto> getAll(Pageable pageable,@RequestParam(name="search", required=false, defaultValue="") String search) {
-        return  roomService.getAll(pageable,search);
+    public Page<RoomResponseDto> getAll(Pageable pageable,@RequestParam(name="search", required=false, defaultValue="") String search, @RequestParam(name="fuzzy", required=false, defaultValue="false") boolean fuzzy) {
+        return  roomService.getAll(pageable,search,fuzzy);
+    }
+
+    @GetMapping("/scroll")
+    public CursorPageDto<RoomResponseDto> scroll(@RequestParam(name="search", required=false, defaultValue="") String search, @RequestParam(name="cursor", required=false) String cursor, @RequestParam(name="size", required=false, defaultValue=PageCursor.DEFAULT_SIZE) int size) {
+        return roomService.scroll(search, cursor, size);
+    }
+
+    @GetMapping("/availability")
+    public List<RoomResponseDto> getAvailable(
+            @RequestParam(name="from") @DateTimeFormat(pattern = "dd/MM/yyyy HH:mm:ss") LocalDateTime from,
+            @RequestParam(name="to") @DateTimeFormat(pattern = "dd/MM/yyyy HH:mm:ss") LocalDateTime to,
+            @RequestParam(name="capacity", required=false, defaultValue="0") int capacity,
+            @RequestParam(name="location", required=false, defaultValue="") String location) {
+        return roomService.getAvailable(from, to, capacity, location);
+    }
+
+    // Chamado pelos outros nós do cluster
+    @PostMapping("/availability/owned")
+    public List<UUID> getLocallyFree(@RequestBody @Valid RoomAvailabilityCheckDto check) {
+        return roomService.getLocallyFree(check);
+    }
+
+    // Chamado pelo nó que tirou uma reserva desta sala
+    @PostMapping("/{id}/availability/reload")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void reloadAvailability(@PathVariable UUID id) {
+        roomService.reloadAvailability(id);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(name="location", required=false, defaultValue="") String location) {
+        return roomStatusBroadcaster.subscribe(location);
     }
 
     @GetMapping("/{id}")
@@ -38,8 +38,8 @@ public class UserController {
     }
 
     @GetMapping
-    public Page<UserResponseDto> getAllUsers(Pageable pageable, @RequestParam(value="search",required=false,defaultValue="") String search) {
-        return userService.getAllUsers(pageable, search);
+    public Page<UserResponseDto> getAllUsers(Pageable pageable, @RequestParam(value="search",required=false,defaultValue="") String search, @RequestParam(value="fuzzy",required=false,defaultValue="false") boolean fuzzy) {
+        return userService.getAllUsers(pageable, search, fuzzy);
     }
 
     @GetMapping("/{id}")
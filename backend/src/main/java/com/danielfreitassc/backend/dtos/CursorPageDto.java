@@ -0,0 +1,10 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+    List<T> content,
+    String nextCursor
+) {
+    
+}
@@ -0,0 +1,13 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailyReportTotalsDto(
+    LocalDate day,
+    Long reservations,
+    Long reservedMinutes,
+    BigDecimal revenue
+) {
+    
+}
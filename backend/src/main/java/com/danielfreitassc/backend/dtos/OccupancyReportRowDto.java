@@ -0,0 +1,24 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OccupancyReportRowDto(
+    UUID roomId,
+    String roomName,
+    String location,
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    LocalDate day,
+
+    long reservedMinutes,
+    long availableMinutes,
+    BigDecimal occupancyRate
+) {
+    
+}
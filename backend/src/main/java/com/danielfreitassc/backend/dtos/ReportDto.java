@@ -0,0 +1,19 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record ReportDto<T>(
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    LocalDate from,
+
+    @JsonFormat(pattern = "dd/MM/yyyy")
+    LocalDate to,
+
+    String groupBy,
+    List<T> rows
+) {
+    
+}
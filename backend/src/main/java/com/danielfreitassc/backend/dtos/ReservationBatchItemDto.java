@@ -0,0 +1,10 @@
+package com.danielfreitassc.backend.dtos;
+
+public record ReservationBatchItemDto(
+    int index,
+    int status,
+    String message,
+    ReservationResponseDto reservation
+) {
+    
+}
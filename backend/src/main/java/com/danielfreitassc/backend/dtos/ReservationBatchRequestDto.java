@@ -0,0 +1,15 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record ReservationBatchRequestDto(
+    @NotEmpty(message="A lista de reservas não pode estar vazia")
+    @Size(max=1000, message="Máximo de 1000 reservas por lote")
+    List<@Valid ReservationRequestDto> reservations
+) {
+    
+}
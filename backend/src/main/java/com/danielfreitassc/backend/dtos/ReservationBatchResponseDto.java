@@ -0,0 +1,11 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.util.List;
+
+public record ReservationBatchResponseDto(
+    int created,
+    int rejected,
+    List<ReservationBatchItemDto> results
+) {
+    
+}
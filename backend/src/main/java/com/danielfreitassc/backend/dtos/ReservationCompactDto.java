@@ -0,0 +1,25 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+// Reserva sem sala e usuário aninhados; os dados deles vêm nos dicionários de ReservationCompactPageDto
+public record ReservationCompactDto(
+    UUID id,
+    UUID roomId,
+    UUID userId,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime startTime,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime endTime,
+    RoomStatus status,
+    BigDecimal totalCost
+) {
+    
+}
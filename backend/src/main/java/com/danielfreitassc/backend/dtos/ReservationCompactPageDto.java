@@ -0,0 +1,21 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.web.PagedModel.PageMetadata;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// page vem em GET /reservation e nextCursor em GET /reservation/scroll
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ReservationCompactPageDto(
+    List<ReservationCompactDto> content,
+    Map<UUID, RoomResponseDto> rooms,
+    Map<UUID, UserResponseDto> users,
+    PageMetadata page,
+    String nextCursor
+) {
+    
+}
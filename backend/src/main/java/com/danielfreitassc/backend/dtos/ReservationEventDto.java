@@ -0,0 +1,24 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.danielfreitassc.backend.models.ReservationEventType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+public record ReservationEventDto(
+    Long id,
+    ReservationEventType type,
+    UUID roomId,
+    long roomSequence,
+    UUID reservationId,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime occurredAt,
+
+    @JsonRawValue
+    String reservation
+) {
+    
+}
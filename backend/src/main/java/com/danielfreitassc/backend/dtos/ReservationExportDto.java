@@ -0,0 +1,26 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record ReservationExportDto(
+    UUID id,
+    UUID roomId,
+    String roomName,
+    UUID userId,
+    String username,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime startTime,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime endTime,
+    RoomStatus status,
+    BigDecimal totalCost
+) {
+    
+}
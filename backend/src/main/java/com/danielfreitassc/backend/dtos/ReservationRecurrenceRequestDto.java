@@ -0,0 +1,17 @@
+package com.danielfreitassc.backend.dtos;
+
+import com.danielfreitassc.backend.models.RecurrenceFrequency;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record ReservationRecurrenceRequestDto(
+    @NotNull(message="A primeira ocorrência não pode estar nula") @Valid ReservationRequestDto reservation,
+    @NotNull(message="Frequência não pode estar nula") RecurrenceFrequency frequency,
+    @Min(value=1, message="Informe ao menos uma ocorrência")
+    @Max(value=1000, message="Máximo de 1000 ocorrências") int occurrences
+) {
+    
+}
@@ -0,0 +1,13 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ReservationSlotDto(
+    UUID id,
+    UUID roomId,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {
+    
+}
@@ -0,0 +1,22 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record RoomAvailabilityCheckDto(
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    @NotNull(message="Inicio pode estar nulo") LocalDateTime from,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    @NotNull(message="Fim pode estar nulo") LocalDateTime to,
+
+    @NotEmpty(message="A lista de salas não pode estar vazia") List<UUID> roomIds
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record RoomReportTotalsDto(
+    UUID roomId,
+    Long reservations,
+    Long reservedMinutes,
+    BigDecimal revenue
+) {
+    
+}
@@ -0,0 +1,20 @@
+package com.danielfreitassc.backend.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+public record RoomStatusEventDto(
+    UUID roomId,
+    String name,
+    String roomNumber,
+    String location,
+    RoomStatus status,
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    LocalDateTime changedAt
+) {
+
+}
@@ -0,0 +1,55 @@
+package com.danielfreitassc.backend.infra.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Hash consistente das salas entre os nós: cada nó ocupa virtualNodes pontos do anel e a sala pertence
+ * ao primeiro ponto a partir do hash do seu UUID. Ao entrar ou sair um nó, só as salas dos pontos dele mudam de dono.
+ * Imutável; a busca é uma pesquisa binária num long[] ordenado.
+ */
+public final class HashRing {
+    private final long[] points;
+    private final String[] owners;
+
+    public HashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty()) throw new IllegalArgumentException("O anel precisa de pelo menos um nó");
+        TreeMap<Long, String> ring = new TreeMap<>();
+        // Nós em ordem: num empate de hash (improvável) fica o menor id, igual em todas as réplicas
+        nodeIds.stream().sorted().forEach(node -> {
+            for (int replica = 0; replica < virtualNodes; replica++) ring.putIfAbsent(hash(node + "#" + replica), node);
+        });
+        this.points = ring.keySet().stream().mapToLong(Long::longValue).toArray();
+        this.owners = ring.values().toArray(String[]::new);
+    }
+
+    public String ownerOf(UUID roomId) {
+        int index = Arrays.binarySearch(points, hash(roomId));
+        if (index < 0) index = -index - 1;
+        return owners[index == points.length ? 0 : index];
+    }
+
+    static long hash(UUID id) {
+        return mix(id.getMostSignificantBits() ^ Long.rotateLeft(id.getLeastSignificantBits(), 32));
+    }
+
+    // FNV-1a de 64 bits seguido da mesma mistura dos UUIDs
+    static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // Finalizador de 64 bits do MurmurHash3
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,83 @@
+package com.danielfreitassc.backend.infra.cluster;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Divide as salas entre as réplicas quando {@code cluster.enabled=true}. Os nós vêm de {@code cluster.nodes}
+ * ("node-a=http://10.0.0.1:8080,node-b=http://10.0.0.2:8080") ou de um arquivo com uma linha id=url por nó
+ * ({@code cluster.nodes-file}), lidos na inicialização. Todas as réplicas devem usar a mesma lista.
+ * Desligado, toda sala é local.
+ */
+@Component
+public class RoomPartitioner {
+    private final boolean enabled;
+    private final String nodeId;
+    private final Map<String, String> nodeUrls;
+    private final HashRing ring;
+
+    public RoomPartitioner(
+            @Value("${cluster.enabled:false}") boolean enabled,
+            @Value("${cluster.node-id:local}") String nodeId,
+            @Value("${cluster.nodes:}") String nodes,
+            @Value("${cluster.nodes-file:}") String nodesFile,
+            @Value("${cluster.virtual-nodes:128}") int virtualNodes) {
+        this.enabled = enabled;
+        this.nodeId = nodeId;
+        this.nodeUrls = enabled ? parseNodes(nodes, nodesFile) : Map.of();
+        if (enabled && !nodeUrls.containsKey(nodeId)) {
+            throw new IllegalStateException("cluster.node-id " + nodeId + " não está na lista de nós do cluster");
+        }
+        this.ring = enabled ? new HashRing(nodeUrls.keySet(), virtualNodes) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isLocal(UUID roomId) {
+        return !enabled || ring.ownerOf(roomId).equals(nodeId);
+    }
+
+    // URL base do nó dono da sala, ou null quando a sala é deste nó
+    public String ownerUrl(UUID roomId) {
+        if (!enabled) return null;
+        String owner = ring.ownerOf(roomId);
+        return owner.equals(nodeId) ? null : nodeUrls.get(owner);
+    }
+
+    private static Map<String, String> parseNodes(String nodes, String nodesFile) {
+        Map<String, String> urls = new LinkedHashMap<>();
+        List<String> entries = new ArrayList<>(List.of(nodes.split(",")));
+        if (!nodesFile.isBlank()) {
+            try {
+                entries.addAll(Files.readAllLines(Path.of(nodesFile)));
+            } catch (IOException exception) {
+                throw new UncheckedIOException("Não foi possível ler cluster.nodes-file " + nodesFile, exception);
+            }
+        }
+        for (String entry : entries) {
+            if (entry.isBlank() || entry.trim().startsWith("#")) continue;
+            int separator = entry.indexOf('=');
+            if (separator <= 0) throw new IllegalArgumentException("Nó do cluster inválido, use id=url: " + entry);
+            String url = entry.substring(separator + 1).trim();
+            urls.put(entry.substring(0, separator).trim(), url.endsWith("/") ? url.substring(0, url.length() - 1) : url);
+        }
+        if (urls.isEmpty()) throw new IllegalStateException("cluster.enabled=true sem nós em cluster.nodes ou cluster.nodes-file");
+        return urls;
+    }
+}
@@ -0,0 +1,228 @@
+package com.danielfreitassc.backend.infra.cluster;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.danielfreitassc.backend.dtos.ReservationBatchItemDto;
+import com.danielfreitassc.backend.dtos.ReservationBatchRequestDto;
+import com.danielfreitassc.backend.dtos.ReservationBatchResponseDto;
+import com.danielfreitassc.backend.dtos.ReservationRequestDto;
+import com.danielfreitassc.backend.dtos.RoomAvailabilityCheckDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Encaminha as escritas de reserva para a réplica dona da sala, que é quem mantém o índice de disponibilidade dela.
+ * A resposta do dono (status, corpo e Content-Type) volta sem alteração para o cliente.
+ * Se o dono não aceita a conexão, a requisição é atendida aqui: a checagem no banco continua valendo para qualquer réplica.
+ * Lotes com salas de vários nós são divididos por dono. Também consulta os índices dos donos para GET /room/availability
+ * e pede ao dono antigo que releia a sala quando uma reserva muda para uma sala de outro nó.
+ */
+@Component
+public class RoomRequestRouter {
+    public static final String FORWARDED_BY_HEADER = "X-Cluster-Forwarded-By";
+    private static final List<String> FORWARDED_HEADERS = List.of(HttpHeaders.AUTHORIZATION, HttpHeaders.ACCEPT, "Idempotency-Key");
+    public static final String OWNED_AVAILABILITY_PATH = "/room/availability/owned";
+    private static final Logger log = LoggerFactory.getLogger(RoomRequestRouter.class);
+
+    private final RoomPartitioner roomPartitioner;
+    private final RestClient restClient;
+    private final MeterRegistry meterRegistry;
+
+    public RoomRequestRouter(
+            RoomPartitioner roomPartitioner,
+            RestClient.Builder restClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${cluster.forward-timeout:5s}") Duration timeout) {
+        this.roomPartitioner = roomPartitioner;
+        this.meterRegistry = meterRegistry;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder.requestFactory(new BufferingClientHttpRequestFactory(requestFactory)).build();
+    }
+
+    // Requisições que já vieram de outro nó são sempre atendidas aqui, mesmo que as listas de nós divirjam
+    public ResponseEntity<Object> route(Supplier<UUID> roomId, HttpServletRequest request, Object body, Supplier<ResponseEntity<Object>> local) {
+        if (!roomPartitioner.isEnabled() || request.getHeader(FORWARDED_BY_HEADER) != null) return local.get();
+
+        String ownerUrl = roomPartitioner.ownerUrl(roomId.get());
+        if (ownerUrl == null) return local.get();
+
+        try {
+            ResponseEntity<Object> response = forward(ownerUrl, request, body);
+            count("forwarded");
+            return response;
+        } catch (RestClientException exception) {
+            // Depois de conectar o dono pode ter gravado a reserva; repetir aqui daria um falso conflito
+            if (!(exception.getCause() instanceof ConnectException)) {
+                count("failed");
+                throw new ResponseStatusException(HttpStatus.BAD_GATEWAY, "O nó responsável pela sala não respondeu");
+            }
+            log.warn("Nó {} indisponível, atendendo {} {} localmente", ownerUrl, request.getMethod(), request.getRequestURI());
+            count("fallback");
+            return local.get();
+        }
+    }
+
+    // Lote com salas de vários nós: cada nó recebe só os itens das suas salas, em um sub-lote, e os resultados voltam
+    // com o índice do item no lote original. Cada sub-lote é gravado numa transação própria
+    public ReservationBatchResponseDto routeBatch(List<ReservationRequestDto> requests, HttpServletRequest request, Function<List<ReservationRequestDto>, ReservationBatchResponseDto> local) {
+        if (!roomPartitioner.isEnabled() || request.getHeader(FORWARDED_BY_HEADER) != null) return local.apply(requests);
+
+        List<Integer> localIndexes = new ArrayList<>();
+        Map<String, List<Integer>> remoteIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String ownerUrl = roomPartitioner.ownerUrl(requests.get(i).roomId());
+            if (ownerUrl == null) {
+                localIndexes.add(i);
+            } else {
+                remoteIndexes.computeIfAbsent(ownerUrl, url -> new ArrayList<>()).add(i);
+            }
+        }
+        if (remoteIndexes.isEmpty()) return local.apply(requests);
+
+        ReservationBatchItemDto[] results = new ReservationBatchItemDto[requests.size()];
+        remoteIndexes.forEach((ownerUrl, indexes) -> {
+            List<ReservationRequestDto> items = indexes.stream().map(requests::get).toList();
+            try {
+                ReservationBatchResponseDto response = forwardBatch(ownerUrl, request, new ReservationBatchRequestDto(items));
+                count("forwarded");
+                merge(results, indexes, response);
+            } catch (RestClientException exception) {
+                if (exception.getCause() instanceof ConnectException) {
+                    log.warn("Nó {} indisponível, atendendo {} itens do lote localmente", ownerUrl, items.size());
+                    count("fallback");
+                    localIndexes.addAll(indexes);
+                    return;
+                }
+                count("failed");
+                // Os itens podem ter sido gravados pelo dono; quem chamou confere antes de repetir
+                ReservationBatchItemDto failure = exception instanceof RestClientResponseException responseException
+                        ? new ReservationBatchItemDto(0, responseException.getStatusCode().value(), "O nó responsável pela sala recusou o lote", null)
+                        : new ReservationBatchItemDto(0, HttpStatus.BAD_GATEWAY.value(), "O nó responsável pela sala não respondeu", null);
+                indexes.forEach(index -> results[index] = new ReservationBatchItemDto(index, failure.status(), failure.message(), null));
+            }
+        });
+        if (!localIndexes.isEmpty()) {
+            localIndexes.sort(null);
+            merge(results, localIndexes, local.apply(localIndexes.stream().map(requests::get).toList()));
+        }
+
+        int created = (int) Arrays.stream(results).filter(result -> result.status() == HttpStatus.CREATED.value()).count();
+        return new ReservationBatchResponseDto(created, results.length - created, List.of(results));
+    }
+
+    // Avisa o dono da sala para reler a agenda dela do banco, depois de uma escrita feita fora dele
+    public void reload(String ownerUrl, UUID roomId) {
+        try {
+            restClient.post()
+                    .uri(URI.create(ownerUrl + "/room/" + roomId + "/availability/reload"))
+                    .headers(this::setClusterHeaders)
+                    .retrieve()
+                    .toBodilessEntity();
+            count("forwarded");
+        } catch (RestClientException exception) {
+            // A agenda fica com a reserva antiga até o dono reler a sala numa checagem de conflito
+            log.warn("Nó {} não recarregou a sala {}", ownerUrl, roomId, exception);
+            count("failed");
+        }
+    }
+
+    // Pergunta ao dono quais destas salas estão livres no índice dele. Sem resposta, todas voltam como livres e o banco decide
+    public List<UUID> findFree(String ownerUrl, RoomAvailabilityCheckDto check) {
+        try {
+            UUID[] free = restClient.post()
+                    .uri(URI.create(ownerUrl + OWNED_AVAILABILITY_PATH))
+                    .headers(this::setClusterHeaders)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(check)
+                    .retrieve()
+                    .body(UUID[].class);
+            count("forwarded");
+            return free != null ? List.of(free) : List.of();
+        } catch (RestClientException exception) {
+            log.warn("Nó {} não respondeu a consulta de disponibilidade, conferindo {} salas no banco", ownerUrl, check.roomIds().size());
+            count("fallback");
+            return check.roomIds();
+        }
+    }
+
+    private ReservationBatchResponseDto forwardBatch(String ownerUrl, HttpServletRequest request, ReservationBatchRequestDto body) {
+        return restClient.post()
+                .uri(URI.create(ownerUrl + request.getRequestURI()))
+                .headers(this::setClusterHeaders)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body)
+                .retrieve()
+                .body(ReservationBatchResponseDto.class);
+    }
+
+    private static void merge(ReservationBatchItemDto[] results, List<Integer> indexes, ReservationBatchResponseDto response) {
+        for (ReservationBatchItemDto item : response.results()) {
+            int index = indexes.get(item.index());
+            results[index] = new ReservationBatchItemDto(index, item.status(), item.message(), item.reservation());
+        }
+    }
+
+    // Token do cliente da requisição em andamento, para o dono aplicar as mesmas regras de acesso
+    private void setClusterHeaders(HttpHeaders headers) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String authorization = attributes.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            if (authorization != null) headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        headers.set(FORWARDED_BY_HEADER, roomPartitioner.getNodeId());
+    }
+
+    private ResponseEntity<Object> forward(String ownerUrl, HttpServletRequest request, Object body) {
+        String query = request.getQueryString();
+        RestClient.RequestBodySpec spec = restClient.method(HttpMethod.valueOf(request.getMethod()))
+                .uri(URI.create(ownerUrl + request.getRequestURI() + (query != null ? "?" + query : "")))
+                .headers(headers -> {
+                    for (String name : FORWARDED_HEADERS) {
+                        String value = request.getHeader(name);
+                        if (value != null) headers.set(name, value);
+                    }
+                    headers.set(FORWARDED_BY_HEADER, roomPartitioner.getNodeId());
+                });
+        if (body != null) spec.contentType(MediaType.APPLICATION_JSON).body(body);
+
+        return spec.exchange((clientRequest, response) -> {
+            HttpHeaders headers = new HttpHeaders();
+            if (response.getHeaders().getContentType() != null) headers.setContentType(response.getHeaders().getContentType());
+            return new ResponseEntity<>(response.getBody().readAllBytes(), headers, response.getStatusCode());
+        });
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("cluster.requests", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,129 @@
+package com.danielfreitassc.backend.infra.cluster;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Leva os eventos de GET /room/stream a todas as réplicas. No PostgreSQL os eventos de uma transação saem num único
+ * comando antes do commit (um pg_notify por evento no canal room_status), que o banco só entrega no commit e na ordem
+ * de commit; cada réplica escuta o canal numa conexão própria, tirada do pool. Nos outros bancos (H2 nos benchmarks) o evento é entregue só nesta instância, depois do commit.
+ * Eventos perdidos enquanto a conexão de escuta reconecta não são reenviados: o cliente busca GET /room ao reconectar.
+ */
+@Component
+public class RoomStatusChannel {
+    private static final Logger log = LoggerFactory.getLogger(RoomStatusChannel.class);
+    private static final String CHANNEL = "room_status";
+    private static final String NOTIFY = "SELECT pg_notify('" + CHANNEL + "', payload) FROM unnest(?::text[]) AS payload";
+    private static final int POLL_MILLIS = 5000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean notify;
+    private volatile Consumer<String> handler = ignored -> {};
+    private volatile boolean running = true;
+
+    public RoomStatusChannel(DataSource dataSource, JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.notify = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    // Recebe os eventos de todas as réplicas, inclusive os desta
+    public void listen(Consumer<String> handler) {
+        this.handler = handler;
+        if (notify) Thread.ofPlatform().name("room-status-listener").daemon(true).start(this::receive);
+    }
+
+    // Dentro de uma transação o evento só sai com o commit; um rollback descarta o evento
+    public void send(String event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(List.of(event));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<String> pending = (List<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<String> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (notify) sendNotifications(events);
+                }
+
+                @Override
+                public void afterCommit() {
+                    if (!notify) events.forEach(handler);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RoomStatusChannel.this);
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+    }
+
+    private void deliver(List<String> events) {
+        if (notify) {
+            sendNotifications(events);
+        } else {
+            events.forEach(handler);
+        }
+    }
+
+    private void sendNotifications(List<String> events) {
+        jdbcTemplate.query(NOTIFY, statement -> statement.setArray(1, statement.getConnection().createArrayOf("text", events.toArray())), resultSet -> null);
+    }
+
+    private void receive() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_MILLIS);
+                    if (notifications == null) continue;
+                    for (PGNotification notification : notifications) {
+                        handler.accept(notification.getParameter());
+                    }
+                }
+            } catch (SQLException | RuntimeException exception) {
+                if (!running) return;
+                log.warn("Conexão do canal {} perdida, escutando de novo em {} ms", CHANNEL, POLL_MILLIS, exception);
+                try {
+                    Thread.sleep(POLL_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+}
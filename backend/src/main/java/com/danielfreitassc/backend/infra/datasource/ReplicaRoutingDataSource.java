@@ -0,0 +1,170 @@
+package com.danielfreitassc.backend.infra.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.WebUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Conexões das transações readOnly (via LazyConnectionDataSourceProxy.setReadOnlyDataSource), distribuídas
+ * em rodízio entre as réplicas com atraso até max-lag. Usa o primário quando todas as réplicas estão atrasadas,
+ * durante requisições de escrita e, por read-your-writes, para o cliente que escreveu há menos de read-your-writes.
+ * O horário da última escrita vai com o cliente (cookie last-write ou cabeçalho X-Last-Write), então vale em
+ * qualquer instância que receba a próxima leitura.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.POSITIVE_INFINITY;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public static final String WRITE_MARKER_COOKIE = "last-write";
+    public static final String WRITE_MARKER_HEADER = "X-Last-Write";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final double maxLagSeconds;
+    private final String lagQuery;
+    private final Duration readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, Duration maxLag, Duration readYourWrites, String lagQuery, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.lagQuery = lagQuery;
+        this.readYourWrites = readYourWrites;
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + (i + 1), replicaDataSources.get(i));
+            replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds).tag("replica", replica.name).baseUnit("seconds").register(meterRegistry);
+        }
+        this.replicaReads = meterRegistry.counter("datasource.reads", "target", "replica");
+        this.primaryReads = meterRegistry.counter("datasource.reads", "target", "primary");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return target().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return target().getConnection(username, password);
+    }
+
+    // Chamado no início de toda requisição que não é GET, antes de a resposta começar: as próximas leituras desse
+    // cliente vão para o primário enquanto o marcador for mais novo que read-your-writes
+    public void recordWrite(HttpServletResponse response) {
+        String writtenAt = String.valueOf(System.currentTimeMillis());
+        response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(WRITE_MARKER_COOKIE, writtenAt)
+                .path("/")
+                .maxAge(readYourWrites.toSeconds() + 1)
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build()
+                .toString());
+        response.setHeader(WRITE_MARKER_HEADER, writtenAt);
+    }
+
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${api.datasource.replica.lag-check-interval:PT1S}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasAvailable = replica.lagSeconds <= maxLagSeconds;
+            String error = null;
+            try {
+                replica.lagSeconds = measureLag(replica);
+            } catch (SQLException exception) {
+                // Sem medida a réplica sai do rodízio até a próxima checagem
+                replica.lagSeconds = Double.POSITIVE_INFINITY;
+                error = exception.getMessage();
+            }
+            boolean available = replica.lagSeconds <= maxLagSeconds;
+            if (available && !wasAvailable) log.info("Réplica {} no rodízio (atraso {}s)", replica.name, replica.lagSeconds);
+            if (!available && wasAvailable) log.warn("Réplica {} fora do rodízio: {}", replica.name, error != null ? error : "atraso de " + replica.lagSeconds + "s");
+        }
+    }
+
+    private DataSource target() {
+        if (!requiresPrimary()) {
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (replica.lagSeconds <= maxLagSeconds) {
+                    replicaReads.increment();
+                    return replica.dataSource;
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary;
+    }
+
+    private boolean requiresPrimary() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return false;
+        HttpServletRequest request = attributes.getRequest();
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) return true;
+        Long writtenAt = writeMarker(request);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < readYourWrites.toMillis();
+    }
+
+    // Clientes sem cookies (outra origem, scripts) devolvem o valor de X-Last-Write no mesmo cabeçalho
+    private static Long writeMarker(HttpServletRequest request) {
+        String value = request.getHeader(WRITE_MARKER_HEADER);
+        if (value == null) {
+            Cookie cookie = WebUtils.getCookie(request, WRITE_MARKER_COOKIE);
+            if (cookie == null) return null;
+            value = cookie.getValue();
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+    }
+
+    private double measureLag(Replica replica) throws SQLException {
+        try (Connection connection = replica.dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(lagQuery)) {
+            // Sem linha ou NULL (réplica que ainda não recebeu WAL): atraso desconhecido
+            if (!result.next()) return Double.POSITIVE_INFINITY;
+            double lag = result.getDouble(1);
+            return result.wasNull() ? Double.POSITIVE_INFINITY : lag;
+        }
+    }
+}
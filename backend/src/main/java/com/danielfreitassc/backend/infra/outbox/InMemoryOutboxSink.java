@@ -0,0 +1,25 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.danielfreitassc.backend.dtos.ReservationEventDto;
+
+// Para testes: os eventos publicados ficam numa fila em memória
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+    private final BlockingQueue<ReservationEventDto> events = new LinkedBlockingQueue<>();
+
+    @Override
+    public void publish(ReservationEventDto event) {
+        events.add(event);
+    }
+
+    public BlockingQueue<ReservationEventDto> getEvents() {
+        return events;
+    }
+}
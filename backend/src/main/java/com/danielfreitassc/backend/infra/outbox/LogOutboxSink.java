@@ -0,0 +1,26 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.danielfreitassc.backend.dtos.ReservationEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// Uma linha JSON por evento no logger "reservation-events", que pode ser direcionado para um arquivo próprio
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "log", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LogOutboxSink implements OutboxSink {
+    private static final Logger log = LoggerFactory.getLogger("reservation-events");
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(ReservationEventDto event) throws Exception {
+        log.info(objectMapper.writeValueAsString(event));
+    }
+}
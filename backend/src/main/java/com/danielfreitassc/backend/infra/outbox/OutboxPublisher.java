@@ -0,0 +1,137 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.danielfreitassc.backend.dtos.ReservationEventDto;
+import com.danielfreitassc.backend.models.OutboxEventEntity;
+import com.danielfreitassc.backend.repositories.OutboxEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Publica os eventos pendentes em lotes, na ordem de roomSequence dentro de cada sala.
+ * Cada lote trava o primeiro evento pendente de até batch-size salas e publica, em cada uma, os eventos seguintes.
+ * Quando um evento falha, os seguintes da mesma sala esperam a nova tentativa dele (backoff exponencial) e a sala
+ * sai dos lotes até lá; as outras salas seguem normalmente. Depois de max-attempts tentativas o evento é estacionado
+ * (parkedAt) e a sala continua a partir do seguinte. Eventos publicados são removidos da tabela.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxPublisher {
+    private static final Logger log = LoggerFactory.getLogger(OutboxPublisher.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Counter published;
+    private final Counter failures;
+    private final Counter parked;
+
+    public OutboxPublisher(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink outboxSink,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.publisher.batch-size:100}") int batchSize,
+            @Value("${outbox.publisher.max-backoff:5m}") Duration maxBackoff,
+            @Value("${outbox.publisher.max-attempts:20}") int maxAttempts) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.published = meterRegistry.counter("outbox.published");
+        this.failures = meterRegistry.counter("outbox.failures");
+        this.parked = meterRegistry.counter("outbox.parked");
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.publisher.interval:PT1S}")
+    public void publishPending() {
+        publishPending(LocalDateTime.now());
+    }
+
+    void publishPending(LocalDateTime now) {
+        // Lote cheio indica que ainda há eventos esperando
+        int sent;
+        do {
+            sent = publishBatch(now);
+        } while (sent >= batchSize);
+    }
+
+    private int publishBatch(LocalDateTime now) {
+        Integer count = transactionTemplate.execute(status -> {
+            Map<UUID, List<OutboxEventEntity>> byRoom = new LinkedHashMap<>();
+            outboxEventRepository.findDueFirstForUpdate(now, Limit.of(batchSize))
+                    .forEach(first -> byRoom.put(first.getRoomId(), new ArrayList<>(List.of(first))));
+            if (byRoom.isEmpty()) return 0;
+
+            // Em ordem de roomSequence; entram depois do primeiro de cada sala
+            outboxEventRepository.findPendingByRoomIds(byRoom.keySet(), Limit.of(batchSize)).forEach(event -> {
+                List<OutboxEventEntity> roomEvents = byRoom.get(event.getRoomId());
+                if (event.getRoomSequence() > roomEvents.get(0).getRoomSequence()) roomEvents.add(event);
+            });
+
+            List<OutboxEventEntity> sent = new ArrayList<>();
+            byRoom.values().forEach(roomEvents -> publishRoom(roomEvents, now, sent));
+
+            outboxEventRepository.deleteAllInBatch(sent);
+            published.increment(sent.size());
+            return sent.size();
+        });
+        return count == null ? 0 : count;
+    }
+
+    // Para no primeiro evento que falha ou que ainda aguarda nova tentativa
+    private void publishRoom(List<OutboxEventEntity> roomEvents, LocalDateTime now, List<OutboxEventEntity> sent) {
+        for (OutboxEventEntity event : roomEvents) {
+            if (event.getNextAttemptAt().isAfter(now)) return;
+            try {
+                outboxSink.publish(toDto(event));
+                sent.add(event);
+            } catch (Exception exception) {
+                scheduleRetry(event, exception, now);
+                return;
+            }
+        }
+    }
+
+    private void scheduleRetry(OutboxEventEntity event, Exception exception, LocalDateTime now) {
+        failures.increment();
+        event.setAttempts(event.getAttempts() + 1);
+        String message = String.valueOf(exception.getMessage());
+        event.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setParkedAt(now);
+            parked.increment();
+            log.warn("Evento {} da sala {} (roomSequence {}) estacionado após {} tentativas: {}",
+                    event.getId(), event.getRoomId(), event.getRoomSequence(), event.getAttempts(), event.getLastError());
+            return;
+        }
+        long backoffSeconds = Math.min(maxBackoff.toSeconds(), 1L << Math.min(event.getAttempts() - 1, 30));
+        event.setNextAttemptAt(now.plusSeconds(backoffSeconds));
+    }
+
+    private static ReservationEventDto toDto(OutboxEventEntity event) {
+        return new ReservationEventDto(event.getId(), event.getType(), event.getRoomId(), event.getRoomSequence(), event.getReservationId(), event.getOccurredAt(), event.getPayload());
+    }
+}
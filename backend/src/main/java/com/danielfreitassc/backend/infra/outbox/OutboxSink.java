@@ -0,0 +1,12 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import com.danielfreitassc.backend.dtos.ReservationEventDto;
+
+/**
+ * Destino dos eventos de reserva. A implementação é escolhida por {@code outbox.sink} (log, webhook ou memory).
+ * Lançar exceção faz o evento ser tentado de novo mais tarde, sem publicar os eventos seguintes da mesma sala,
+ * até outbox.publisher.max-attempts; depois disso o evento é estacionado e a sala segue.
+ */
+public interface OutboxSink {
+    void publish(ReservationEventDto event) throws Exception;
+}
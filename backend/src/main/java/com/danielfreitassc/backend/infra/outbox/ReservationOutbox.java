@@ -0,0 +1,70 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.danielfreitassc.backend.mappers.ReservationMapper;
+import com.danielfreitassc.backend.models.OutboxEventEntity;
+import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.models.ReservationEventType;
+import com.danielfreitassc.backend.repositories.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationOutbox {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ReservationMapper reservationMapper;
+    private final ObjectMapper objectMapper;
+
+    // MANDATORY: o evento só existe se a alteração da reserva for confirmada junto com ele
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ReservationEventType type, ReservationEntity reservation) {
+        recordAll(type, List.of(reservation));
+    }
+
+    // Um contador por sala para o lote todo; salas em ordem fixa para duas transações não travarem os contadores em ordem inversa
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(ReservationEventType type, List<ReservationEntity> reservations) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, List<ReservationEntity>> byRoom = reservations.stream()
+                .collect(Collectors.groupingBy(reservation -> reservation.getRoomEntity().getId(), TreeMap::new, Collectors.toList()));
+        List<OutboxEventEntity> events = new ArrayList<>(reservations.size());
+
+        byRoom.forEach((roomId, roomReservations) -> {
+            long sequence = outboxEventRepository.allocateRoomSequences(roomId, roomReservations.size());
+            for (ReservationEntity reservation : roomReservations) {
+                OutboxEventEntity event = new OutboxEventEntity();
+                event.setType(type);
+                event.setRoomId(roomId);
+                event.setRoomSequence(sequence++);
+                event.setReservationId(reservation.getId());
+                event.setPayload(toJson(reservation));
+                event.setOccurredAt(now);
+                event.setNextAttemptAt(now);
+                events.add(event);
+            }
+        });
+        outboxEventRepository.saveAll(events);
+    }
+
+    private String toJson(ReservationEntity reservation) {
+        try {
+            return objectMapper.writeValueAsString(reservationMapper.toDto(reservation));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import com.danielfreitassc.backend.dtos.ReservationEventDto;
+
+// POST de cada evento em JSON; respostas fora de 2xx viram nova tentativa
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "webhook")
+public class WebhookOutboxSink implements OutboxSink {
+    private final RestClient restClient;
+
+    public WebhookOutboxSink(
+            RestClient.Builder restClientBuilder,
+            @Value("${outbox.webhook.url}") String url,
+            @Value("${outbox.webhook.timeout:5s}") Duration timeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeout);
+        requestFactory.setReadTimeout(timeout);
+        // Corpo em buffer para enviar Content-Length em vez de chunked
+        this.restClient = restClientBuilder.baseUrl(url).requestFactory(new BufferingClientHttpRequestFactory(requestFactory)).build();
+    }
+
+    @Override
+    public void publish(ReservationEventDto event) {
+        restClient.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(event)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
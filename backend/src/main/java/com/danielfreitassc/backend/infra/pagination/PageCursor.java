@@ -0,0 +1,57 @@
+package com.danielfreitassc.backend.infra.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.danielfreitassc.backend.dtos.CursorPageDto;
+
+/**
+ * Posição opaca da paginação por keyset: (createdAt, id) do último item entregue.
+ */
+public record PageCursor(Timestamp createdAt, UUID id) {
+    // String para poder ser usado como defaultValue de @RequestParam
+    public static final String DEFAULT_SIZE = "20";
+    public static final int MAX_SIZE = 100;
+
+    public String encode() {
+        String raw = createdAt.toInstant() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            return new PageCursor(Timestamp.from(Instant.parse(parts[0])), UUID.fromString(parts[1]));
+        } catch (RuntimeException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Cursor inválido");
+        }
+    }
+
+    // Busca um item a mais que o tamanho da página para saber se existe próxima página
+    public static Limit limitFor(int size) {
+        return Limit.of(normalize(size) + 1);
+    }
+
+    public static <E, D> CursorPageDto<D> page(List<E> rows, int size, Function<E, D> mapper, Function<E, PageCursor> cursorOf) {
+        int pageSize = normalize(size);
+        if (rows.size() <= pageSize) {
+            return new CursorPageDto<>(rows.stream().map(mapper).toList(), null);
+        }
+        List<E> content = rows.subList(0, pageSize);
+        return new CursorPageDto<>(content.stream().map(mapper).toList(), cursorOf.apply(content.get(pageSize - 1)).encode());
+    }
+
+    private static int normalize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
@@ -0,0 +1,74 @@
+package com.danielfreitassc.backend.infra.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Guarda só os horários das últimas max-attempts falhas de cada usuário: é o suficiente para saber se
+ * houve max-attempts falhas dentro da janela. Usuários sem falha na janela saem do cache.
+ */
+@Component
+@ConditionalOnProperty(name = "api.security.login.attempt-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+    private final Cache<String, FailureWindow> failures;
+    private final int maxAttempts;
+    private final long windowMillis;
+
+    public InMemoryLoginAttemptStore(
+            @Value("${api.security.login.max-attempts:4}") int maxAttempts,
+            @Value("${api.security.login.window:15m}") Duration window,
+            @Value("${api.security.login.maximum-size:100000}") long maximumSize) {
+        this.maxAttempts = maxAttempts;
+        this.windowMillis = window.toMillis();
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(window)
+                .build();
+    }
+
+    @Override
+    public int recordFailure(String username, Instant now) {
+        long nowMillis = now.toEpochMilli();
+        // Só falhas leem o cache, então a expiração por acesso conta a partir da última falha
+        FailureWindow window = failures.get(username, key -> new FailureWindow(maxAttempts));
+        synchronized (window) {
+            window.add(nowMillis);
+            return window.countSince(nowMillis - windowMillis);
+        }
+    }
+
+    @Override
+    public boolean clear(String username) {
+        return failures.asMap().remove(username) != null;
+    }
+
+    // Buffer circular com os horários (epoch millis) das últimas falhas
+    private static final class FailureWindow {
+        private final long[] times;
+        private int next;
+
+        private FailureWindow(int size) {
+            this.times = new long[size];
+        }
+
+        private void add(long time) {
+            times[next] = time;
+            next = (next + 1) % times.length;
+        }
+
+        private int countSince(long since) {
+            int count = 0;
+            for (long time : times) {
+                if (time > since) count++;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.danielfreitassc.backend.infra.security;
+
+import java.time.Instant;
+
+/**
+ * Falhas de login recentes por usuário, numa janela deslizante. A implementação é escolhida por
+ * {@code api.security.login.attempt-store}; a padrão (memory) vale por instância, e um store compartilhado
+ * entre instâncias só precisa implementar esta interface.
+ */
+public interface LoginAttemptStore {
+    // Registra a falha e devolve quantas falhas o usuário tem dentro da janela, contando esta
+    int recordFailure(String username, Instant now);
+
+    // Devolve false quando não havia nada para limpar
+    boolean clear(String username);
+}
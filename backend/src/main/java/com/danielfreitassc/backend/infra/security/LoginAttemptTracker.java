@@ -0,0 +1,58 @@
+package com.danielfreitassc.backend.infra.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.danielfreitassc.backend.models.UserEntity;
+import com.danielfreitassc.backend.repositories.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Conta as falhas de login no {@link LoginAttemptStore} e só grava em users quando a conta é bloqueada
+ * ou quando um login bem-sucedido encontra tentativas ou bloqueio antigos para limpar.
+ * O bloqueio fica no banco, então vale para todas as instâncias.
+ */
+@Component
+public class LoginAttemptTracker {
+    private final LoginAttemptStore loginAttemptStore;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final Duration lockout;
+
+    public LoginAttemptTracker(
+            LoginAttemptStore loginAttemptStore,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${api.security.login.max-attempts:4}") int maxAttempts,
+            @Value("${api.security.login.lockout:10m}") Duration lockout) {
+        this.loginAttemptStore = loginAttemptStore;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.lockout = lockout;
+    }
+
+    public void loginSucceeded(UserEntity user) {
+        loginAttemptStore.clear(user.getUsername());
+        if (user.getLoginAttempts() != 0 || user.getLockoutExpiration() != null) {
+            userRepository.updateLoginAttempts(user.getId(), 0, null);
+        }
+    }
+
+    // Devolve quantas tentativas restam; 0 quando esta falha bloqueou a conta
+    public int loginFailed(UserEntity user) {
+        int failures = loginAttemptStore.recordFailure(user.getUsername(), Instant.now());
+        if (failures < maxAttempts) return maxAttempts - failures;
+
+        userRepository.updateLoginAttempts(user.getId(), failures, LocalDateTime.now().plus(lockout));
+        loginAttemptStore.clear(user.getUsername());
+        meterRegistry.counter("auth.lockouts").increment();
+        return 0;
+    }
+}
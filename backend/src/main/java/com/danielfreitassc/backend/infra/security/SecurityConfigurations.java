@@ -8,11 +8,10 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -28,6 +27,9 @@ public class SecurityConfigurations {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
 
+                // Redespacho de respostas assíncronas (SSE e exportação), já autorizadas na requisição original
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 .requestMatchers(HttpMethod.POST,"/user").permitAll()
                 .requestMatchers(HttpMethod.GET,"/user").hasAnyRole("ADMIN","CUSTOMER")
                 .requestMatchers(HttpMethod.GET,"/user/{id}").hasAnyRole("ADMIN","CUSTOMER")
@@ -37,15 +39,26 @@ public class SecurityConfigurations {
                 
                 .requestMatchers(HttpMethod.POST,"/room").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET,"/room").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET,"/room/scroll").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET,"/room/availability").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.POST,"/room/availability/owned").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.POST,"/room/{id}/availability/reload").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.GET,"/room/stream").hasAnyRole("ADMIN","CUSTOMER")
                 .requestMatchers(HttpMethod.GET,"/room/{id}").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT,"/room/{id}").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE,"/room/{id}").hasRole("ADMIN")
                 
                 .requestMatchers(HttpMethod.POST,"/reservation").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.POST,"/reservation/batch").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.POST,"/reservation/recurring").hasAnyRole("ADMIN","CUSTOMER")
                 .requestMatchers(HttpMethod.GET,"/reservation").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.GET,"/reservation/scroll").hasAnyRole("ADMIN","CUSTOMER")
+                .requestMatchers(HttpMethod.GET,"/reservation/export").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.GET,"/reservation/{id}").hasAnyRole("ADMIN","CUSTOMER")
                 .requestMatchers(HttpMethod.PUT,"/reservation/{id}").hasAnyRole("ADMIN","CUSTOMER")
                 .requestMatchers(HttpMethod.DELETE,"/reservation/{id}").hasAnyRole("ADMIN","CUSTOMER")
+
+                .requestMatchers(HttpMethod.GET,"/reports/**").hasRole("ADMIN")
                 
                 .requestMatchers(HttpMethod.POST, "/auth/login").permitAll()
                 .requestMatchers(HttpMethod.GET,"/validation").permitAll()
@@ -55,6 +68,10 @@ public class SecurityConfigurations {
                 .requestMatchers(HttpMethod.GET,"/v3/api-docs").permitAll()
                 .requestMatchers(HttpMethod.GET,"/swagger-ui/**").permitAll()
 
+                // Health check e scrape do Prometheus
+                .requestMatchers(HttpMethod.GET,"/actuator/health").permitAll()
+                .requestMatchers(HttpMethod.GET,"/actuator/prometheus").permitAll()
+
 
                 // Configuração para endpoint de erro
                 .requestMatchers("/error").anonymous()
@@ -67,10 +84,5 @@ public class SecurityConfigurations {
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authenticationConfiguration) throws Exception {
         return authenticationConfiguration.getAuthenticationManager();
     }
-    
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 
 }
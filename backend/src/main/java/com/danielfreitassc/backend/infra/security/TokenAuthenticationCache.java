@@ -0,0 +1,118 @@
+package com.danielfreitassc.backend.infra.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.danielfreitassc.backend.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Guarda o usuário autenticado de cada token já verificado até a expiração do JWT
+ * (limitada por max-ttl), evitando verificar a assinatura e consultar o banco a cada requisição.
+ * A remoção por usuário vale só nesta instância: com várias réplicas, as outras seguem com o usuário antigo
+ * até max-ttl, então esse valor deve ser curto (max-ttl=0 desliga o cache).
+ */
+@Component
+public class TokenAuthenticationCache {
+    private record CachedAuthentication(UserDetails user, Instant expiresAt) {}
+
+    private final TokenService tokenService;
+    private final UserRepository userRepository;
+    private final Duration maxTtl;
+    private final Cache<String, CachedAuthentication> cache;
+    // Muda a cada evictUser; um carregamento que atravessou uma remoção não fica no cache
+    private final AtomicLong generation = new AtomicLong();
+
+    public TokenAuthenticationCache(
+            TokenService tokenService,
+            UserRepository userRepository,
+            @Value("${api.security.token.cache.maximum-size:10000}") long maximumSize,
+            @Value("${api.security.token.cache.max-ttl:10m}") Duration maxTtl) {
+        this.tokenService = tokenService;
+        this.userRepository = userRepository;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, CachedAuthentication>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // Carrega fora do cache.get(key, loader): o loader roda dentro de um bloco synchronized do
+    // ConcurrentHashMap e a consulta ao banco prenderia a virtual thread ao carrier (pinning)
+    public UserDetails resolve(String token) {
+        String key = hash(token);
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached == null) {
+            long loadedAt = generation.get();
+            cached = load(token);
+            if (cached == null) return null;
+            if (maxTtl.isZero()) return cached.user();
+            cache.put(key, cached);
+            // Um evictUser entre a leitura do usuário e o put não viu esta entrada: ela sai aqui.
+            // Se o evictUser vier depois desta checagem, o removeIf dele já encontra a entrada
+            if (generation.get() != loadedAt) cache.asMap().remove(key, cached);
+        }
+        return cached.user();
+    }
+
+    // Chamado depois que a alteração do usuário foi gravada
+    public void evictUser(String username) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(cached -> cached.user().getUsername().equals(username));
+    }
+
+    private CachedAuthentication load(String token) {
+        DecodedJWT jwt = tokenService.validateToken(token);
+        if (jwt == null) return null;
+
+        UserDetails user = userRepository.findByUsername(jwt.getSubject());
+        if (user == null) return null;
+
+        Instant expiresAt = jwt.getExpiresAtAsInstant();
+        Instant maxExpiresAt = Instant.now().plus(maxTtl);
+        if (expiresAt == null || expiresAt.isAfter(maxExpiresAt)) expiresAt = maxExpiresAt;
+
+        UserDetails principal = User.withUsername(user.getUsername())
+                .password("")
+                .authorities(user.getAuthorities())
+                .build();
+        return new CachedAuthentication(principal, expiresAt);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
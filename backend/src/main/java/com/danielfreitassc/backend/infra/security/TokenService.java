@@ -8,18 +8,27 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.danielfreitassc.backend.models.UserEntity;
 
 @Service
 public class TokenService {
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    public TokenService(@Value("${api.security.token.secret}") String secret) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer("auth-api")
+                .build();
+    }
     
     public String generateToken(UserEntity user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             String token = JWT.create()
                     .withIssuer("auth-api")
                     .withSubject(user.getUsername())
@@ -31,16 +40,11 @@ public class TokenService {
         }
     }
 
-    public String validateToken(String token) {
+    public DecodedJWT validateToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            return JWT.require(algorithm)
-                .withIssuer("auth-api")
-                .build()
-                .verify(token)
-                .getSubject();
-        } catch (JWTCreationException exception) {
-            return "";
+            return verifier.verify(token);
+        } catch (JWTVerificationException exception) {
+            return null;
         }
     }
 
@@ -0,0 +1,65 @@
+package com.danielfreitassc.backend.mappers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.web.PagedModel.PageMetadata;
+import org.springframework.stereotype.Component;
+
+import com.danielfreitassc.backend.dtos.ReservationCompactDto;
+import com.danielfreitassc.backend.dtos.ReservationCompactPageDto;
+import com.danielfreitassc.backend.dtos.RoomResponseDto;
+import com.danielfreitassc.backend.dtos.UserResponseDto;
+import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.UserEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Listas de reservas com view=compact: cada reserva leva só roomId e userId, e cada sala ou usuário
+ * é mapeado e serializado uma única vez, nos dicionários rooms e users da resposta.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationCompactMapper {
+    private final RoomMapper roomMapper;
+    private final UserMapper userMapper;
+
+    public ReservationCompactDto toDto(ReservationEntity reservationEntity) {
+        return new ReservationCompactDto(
+            reservationEntity.getId(),
+            idOf(reservationEntity.getRoomEntity()),
+            idOf(reservationEntity.getUserEntity()),
+            reservationEntity.getStartTime(),
+            reservationEntity.getEndTime(),
+            reservationEntity.getStatus(),
+            reservationEntity.getTotalCost()
+        );
+    }
+
+    public ReservationCompactPageDto toPage(List<ReservationEntity> reservations, PageMetadata page, String nextCursor) {
+        List<ReservationCompactDto> content = new ArrayList<>(reservations.size());
+        Map<UUID, RoomResponseDto> rooms = new HashMap<>();
+        Map<UUID, UserResponseDto> users = new HashMap<>();
+        for (ReservationEntity reservation : reservations) {
+            content.add(toDto(reservation));
+            RoomEntity room = reservation.getRoomEntity();
+            if (room != null) rooms.computeIfAbsent(room.getId(), id -> roomMapper.toDto(room));
+            UserEntity user = reservation.getUserEntity();
+            if (user != null) users.computeIfAbsent(user.getId(), id -> userMapper.toDto(user));
+        }
+        return new ReservationCompactPageDto(content, rooms, users, page, nextCursor);
+    }
+
+    private static UUID idOf(RoomEntity room) {
+        return room != null ? room.getId() : null;
+    }
+
+    private static UUID idOf(UserEntity user) {
+        return user != null ? user.getId() : null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.danielfreitassc.backend.mappers;
 
+import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -7,7 +8,8 @@ import com.danielfreitassc.backend.dtos.ReservationRequestDto;
 import com.danielfreitassc.backend.dtos.ReservationResponseDto;
 import com.danielfreitassc.backend.models.ReservationEntity;
 
-@Mapper(componentModel="spring")
+// Sala mapeada pelo RoomMapper (preço em centavos -> BigDecimal)
+@Mapper(componentModel="spring", uses=RoomMapper.class, injectionStrategy=InjectionStrategy.CONSTRUCTOR)
 public interface  ReservationMapper {
     @Mapping(target="room", source = "roomEntity")
     @Mapping(target="user", source = "userEntity")
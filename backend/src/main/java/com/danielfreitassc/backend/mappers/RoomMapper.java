@@ -1,5 +1,8 @@
 package com.danielfreitassc.backend.mappers;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -9,10 +12,20 @@ import com.danielfreitassc.backend.models.RoomEntity;
 
 @Mapper(componentModel="spring")
 public interface RoomMapper {
+    @Mapping(target="price", source="priceCents")
     RoomResponseDto toDto(RoomEntity roomEntity);
 
 
     @Mapping(target="id",ignore=true)
     @Mapping(target="createdAt", ignore=true)
+    @Mapping(target="priceCents", source="price")
     RoomEntity toEntity(RoomRequestDto roomRequestDto);
+
+    default BigDecimal centsToPrice(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    default long priceToCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
 }
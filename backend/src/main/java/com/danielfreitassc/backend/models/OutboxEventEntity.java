@@ -0,0 +1,70 @@
+package com.danielfreitassc.backend.models;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Evento de reserva gravado na mesma transação da alteração e publicado depois pelo OutboxPublisher.
+ * A ordem de publicação dentro de cada sala é a de roomSequence, numerado na ordem de commit (V5);
+ * o id vem de blocos pré-alocados por instância e não serve para isso.
+ * Eventos com parkedAt esgotaram as tentativas e não seguram mais a sala (V6).
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_events_next_attempt_at", columnList = "nextAttemptAt, id"),
+    @Index(name = "idx_outbox_events_room_sequence", columnList = "roomId, roomSequence", unique = true)
+})
+public class OutboxEventEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private ReservationEventType type;
+
+    @Column(nullable = false)
+    private UUID roomId;
+
+    @Column(nullable = false)
+    private long roomSequence;
+
+    @Column(nullable = false)
+    private UUID reservationId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private LocalDateTime parkedAt;
+}
@@ -0,0 +1,19 @@
+package com.danielfreitassc.backend.models;
+
+import java.time.temporal.ChronoUnit;
+
+public enum RecurrenceFrequency {
+    DIARIA(ChronoUnit.DAYS),
+    SEMANAL(ChronoUnit.WEEKS),
+    MENSAL(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    RecurrenceFrequency(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit getUnit() {
+        return unit;
+    }
+}
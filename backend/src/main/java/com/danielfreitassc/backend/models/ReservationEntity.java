@@ -10,10 +10,13 @@ import org.springframework.format.annotation.DateTimeFormat;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -27,17 +30,22 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name="reservation")
+@Table(name="reservation", indexes = {
+    @Index(name = "idx_reservation_created_at_id", columnList = "createdAt DESC, id DESC"),
+    @Index(name = "idx_reservation_room_time", columnList = "roomId, startTime, endTime"),
+    @Index(name = "idx_reservation_user_id", columnList = "userId"),
+    @Index(name = "idx_reservation_start_time_id", columnList = "startTime, id")
+})
 public class ReservationEntity {
     @Id
     @GeneratedValue(strategy=GenerationType.UUID)
     private UUID id;   
 
-    @ManyToOne
+    @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="roomId")
     private RoomEntity roomEntity;
 
-    @ManyToOne
+    @ManyToOne(fetch=FetchType.LAZY)
     @JoinColumn(name="userId")
     private UserEntity userEntity;
 
@@ -51,5 +59,6 @@ public class ReservationEntity {
     private RoomStatus status;
     private BigDecimal totalCost;
     @CreationTimestamp
+    @Column(updatable = false)
     private Timestamp createdAt;
 }
@@ -0,0 +1,7 @@
+package com.danielfreitassc.backend.models;
+
+public enum ReservationEventType {
+    RESERVATION_CREATED,
+    RESERVATION_UPDATED,
+    RESERVATION_DELETED
+}
@@ -0,0 +1,15 @@
+package com.danielfreitassc.backend.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor
+@Table(name = "room_daily_stats", indexes = @Index(name = "idx_room_daily_stats_day", columnList = "stats_day"))
+public class RoomDailyStatsEntity extends RoomStatsTotals {
+    public RoomDailyStatsEntity(RoomDayId id) {
+        super(id);
+    }
+}
@@ -0,0 +1,26 @@
+package com.danielfreitassc.backend.models;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RoomDayId implements Serializable {
+    @Column(nullable = false)
+    private UUID roomId;
+
+    // "day" é palavra reservada no H2
+    @Column(name = "stats_day", nullable = false)
+    private LocalDate day;
+}
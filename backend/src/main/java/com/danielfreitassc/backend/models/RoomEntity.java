@@ -1,16 +1,19 @@
 package com.danielfreitassc.backend.models;
 
-import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,11 +21,13 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rooms")
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name="rooms")
+@Table(name="rooms", indexes = @Index(name = "idx_rooms_created_at_id", columnList = "createdAt DESC, id DESC"))
 public class RoomEntity {
     @Id
     @GeneratedValue(strategy=GenerationType.UUID)
@@ -31,7 +36,8 @@ public class RoomEntity {
     private String roomNumber;
     private String location;
     private int capacity;
-    private BigDecimal price;
+    // Preço por hora em centavos
+    private long priceCents;
     private RoomStatus status;
     @CreationTimestamp
     @Column(updatable = false)
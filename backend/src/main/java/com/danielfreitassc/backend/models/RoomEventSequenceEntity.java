@@ -0,0 +1,25 @@
+package com.danielfreitassc.backend.models;
+
+import java.util.UUID;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Último número de evento do outbox usado por cada sala (OutboxEventEntity.roomSequence)
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "room_event_sequence")
+public class RoomEventSequenceEntity {
+    @Id
+    private UUID roomId;
+
+    private long lastSequence;
+}
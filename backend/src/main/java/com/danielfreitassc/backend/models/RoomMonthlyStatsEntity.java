@@ -0,0 +1,16 @@
+package com.danielfreitassc.backend.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+// Mesmos totais de room_daily_stats somados por mês (stats_day = primeiro dia do mês), para relatórios de períodos longos
+@Entity
+@NoArgsConstructor
+@Table(name = "room_monthly_stats", indexes = @Index(name = "idx_room_monthly_stats_day", columnList = "stats_day"))
+public class RoomMonthlyStatsEntity extends RoomStatsTotals {
+    public RoomMonthlyStatsEntity(RoomDayId id) {
+        super(id);
+    }
+}
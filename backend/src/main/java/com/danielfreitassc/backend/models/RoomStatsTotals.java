@@ -0,0 +1,34 @@
+package com.danielfreitassc.backend.models;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Totais de reservas de uma sala em um período, mantidos pelo ReservationRollups na mesma transação das reservas.
+ * Quantidade e receita contam no período de início da reserva; os minutos reservados são divididos entre os dias ocupados.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class RoomStatsTotals {
+    @EmbeddedId
+    private RoomDayId id;
+
+    private int reservations;
+
+    private long reservedMinutes;
+
+    @Column(nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    protected RoomStatsTotals(RoomDayId id) {
+        this.id = id;
+    }
+}
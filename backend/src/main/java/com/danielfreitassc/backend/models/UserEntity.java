@@ -22,6 +22,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
@@ -35,7 +36,10 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "uk_users_username", columnList = "username", unique = true),
+    @Index(name = "idx_users_created_at", columnList = "createdAt DESC")
+})
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class UserEntity implements UserDetails{
     @Id
@@ -62,10 +66,6 @@ public class UserEntity implements UserDetails{
     @Column(name = "lockout_expiration")
     private LocalDateTime lockoutExpiration;
 
-    public void lockAccount() {
-        this.lockoutExpiration = LocalDateTime.now().plusMinutes(10);
-    }
-
     public boolean isAccountLocked() {
         return lockoutExpiration != null && LocalDateTime.now().isBefore(lockoutExpiration);
     }
@@ -77,14 +77,6 @@ public class UserEntity implements UserDetails{
         this.role = (role != null) ? role : UserRole.CUSTOMER;
     }
 
-    public void incrementLoginAttempts() {
-        this.loginAttempts++;
-    }
-
-    public void resetLoginAttempts() {
-        this.loginAttempts = 0;
-    }
-
    @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         List<GrantedAuthority> authorities = new ArrayList<>();
@@ -0,0 +1,34 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.danielfreitassc.backend.models.OutboxEventEntity;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long>, OutboxSequenceRepository {
+
+    // Primeiro evento pendente de cada sala, se já pode ser enviado. lock.timeout -2 = SKIP LOCKED: quem trava o primeiro
+    // evento da sala publica a sala no lote, porque outra instância não enxerga os seguintes enquanto ele estiver pendente.
+    // Sala cujo primeiro evento aguarda nova tentativa fica inteira de fora e não ocupa o lote
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.parkedAt IS NULL AND e.nextAttemptAt <= :now"
+            + " AND NOT EXISTS (SELECT o.id FROM OutboxEventEntity o WHERE o.roomId = e.roomId AND o.roomSequence < e.roomSequence AND o.parkedAt IS NULL)"
+            + " ORDER BY e.id")
+    List<OutboxEventEntity> findDueFirstForUpdate(LocalDateTime now, Limit limit);
+
+    // Eventos pendentes das salas cujo primeiro evento já está travado pelo lote
+    @Query("SELECT e FROM OutboxEventEntity e WHERE e.roomId IN :roomIds AND e.parkedAt IS NULL ORDER BY e.roomSequence")
+    List<OutboxEventEntity> findPendingByRoomIds(Collection<UUID> roomIds, Limit limit);
+}
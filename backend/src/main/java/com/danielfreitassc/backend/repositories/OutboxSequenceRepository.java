@@ -0,0 +1,9 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.util.UUID;
+
+public interface OutboxSequenceRepository {
+
+    // Reserva count números consecutivos de evento da sala e retorna o primeiro
+    long allocateRoomSequences(UUID roomId, int count);
+}
@@ -0,0 +1,55 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.util.UUID;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.danielfreitassc.backend.models.RoomEventSequenceEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * No PostgreSQL soma e lê o contador da sala num único INSERT ... ON CONFLICT DO UPDATE ... RETURNING.
+ * A linha fica travada até o commit: outra transação da mesma sala, em qualquer instância, só recebe números
+ * depois que esta confirmar, então a ordem dos números é a ordem de commit e não há lacunas (rollback desfaz a soma).
+ * Nos outros bancos (H2 nos testes e benchmarks) soma com UPDATE e insere a linha na primeira vez.
+ */
+public class OutboxSequenceRepositoryImpl implements OutboxSequenceRepository {
+    private static final String UPSERT = "INSERT INTO room_event_sequence (room_id, last_sequence) VALUES (:roomId, :count)"
+            + " ON CONFLICT (room_id) DO UPDATE SET last_sequence = room_event_sequence.last_sequence + EXCLUDED.last_sequence"
+            + " RETURNING last_sequence";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean upsert;
+
+    public OutboxSequenceRepositoryImpl(EntityManagerFactory entityManagerFactory) {
+        this.upsert = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public long allocateRoomSequences(UUID roomId, int count) {
+        long last = upsert
+                ? ((Number) entityManager.createNativeQuery(UPSERT).setParameter("roomId", roomId).setParameter("count", count).getSingleResult()).longValue()
+                : incrementOrInsert(roomId, count);
+        return last - count + 1;
+    }
+
+    private long incrementOrInsert(UUID roomId, int count) {
+        int updated = entityManager.createQuery("UPDATE RoomEventSequenceEntity s SET s.lastSequence = s.lastSequence + :count WHERE s.roomId = :roomId")
+                .setParameter("count", (long) count)
+                .setParameter("roomId", roomId)
+                .executeUpdate();
+        if (updated == 0) {
+            entityManager.persist(new RoomEventSequenceEntity(roomId, count));
+            return count;
+        }
+        return entityManager.createQuery("SELECT s.lastSequence FROM RoomEventSequenceEntity s WHERE s.roomId = :roomId", Long.class)
+                .setParameter("roomId", roomId)
+                .getSingleResult();
+    }
+}
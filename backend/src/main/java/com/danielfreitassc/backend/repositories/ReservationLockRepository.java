@@ -0,0 +1,12 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.danielfreitassc.backend.models.ReservationEntity;
+
+public interface ReservationLockRepository {
+
+    // Relê a reserva do banco com a linha travada até o fim da transação, mesmo que ela já esteja no contexto de persistência
+    Optional<ReservationEntity> findByIdForUpdate(UUID id);
+}
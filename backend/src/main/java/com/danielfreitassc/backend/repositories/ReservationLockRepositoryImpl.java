@@ -0,0 +1,34 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import com.danielfreitassc.backend.models.ReservationEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Com open-in-view o contexto de persistência dura a requisição inteira, e um findById repetido devolveria a reserva
+ * lida antes, com a sala e o horário daquele momento. O refresh com PESSIMISTIC_WRITE busca o estado atual (SELECT ... FOR UPDATE).
+ */
+public class ReservationLockRepositoryImpl implements ReservationLockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<ReservationEntity> findByIdForUpdate(UUID id) {
+        ReservationEntity reservation = entityManager.find(ReservationEntity.class, id);
+        if (reservation == null) return Optional.empty();
+        try {
+            entityManager.refresh(reservation, LockModeType.PESSIMISTIC_WRITE);
+        } catch (EntityNotFoundException exception) {
+            // Removida depois da primeira leitura
+            return Optional.empty();
+        }
+        return Optional.of(reservation);
+    }
+}
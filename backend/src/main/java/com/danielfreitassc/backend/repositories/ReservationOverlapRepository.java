@@ -0,0 +1,10 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ReservationOverlapRepository {
+
+    // Se alguma reserva da sala (fora ignoredReservationId) ocupa parte de [startTime, endTime)
+    boolean existsOverlap(UUID roomId, LocalDateTime startTime, LocalDateTime endTime, UUID ignoredReservationId);
+}
@@ -0,0 +1,46 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * No PostgreSQL a consulta usa tsrange e o operador &&, atendida pelo índice GiST da restrição reservation_no_overlap (V4).
+ * Nos outros bancos (H2 nos testes e benchmarks) faz a mesma comparação por colunas, no índice (room_id, start_time, end_time).
+ */
+public class ReservationOverlapRepositoryImpl implements ReservationOverlapRepository {
+    private static final UUID NO_RESERVATION = new UUID(0L, 0L);
+
+    private static final String RANGE_QUERY = "SELECT 1 FROM reservation WHERE room_id = :roomId AND start_time < end_time"
+            + " AND tsrange(start_time, end_time) && tsrange(:startTime, :endTime) AND id <> :ignoredId";
+
+    private static final String COLUMN_QUERY = "SELECT r.id FROM ReservationEntity r WHERE r.roomEntity.id = :roomId"
+            + " AND r.startTime < :endTime AND r.endTime > :startTime AND r.id <> :ignoredId";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean rangeTypes;
+
+    public ReservationOverlapRepositoryImpl(EntityManagerFactory entityManagerFactory) {
+        this.rangeTypes = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public boolean existsOverlap(UUID roomId, LocalDateTime startTime, LocalDateTime endTime, UUID ignoredReservationId) {
+        return !(rangeTypes ? entityManager.createNativeQuery(RANGE_QUERY) : entityManager.createQuery(COLUMN_QUERY))
+                .setParameter("roomId", roomId)
+                .setParameter("startTime", startTime)
+                .setParameter("endTime", endTime)
+                .setParameter("ignoredId", ignoredReservationId != null ? ignoredReservationId : NO_RESERVATION)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+}
@@ -1,17 +1,70 @@
 package com.danielfreitassc.backend.repositories;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.danielfreitassc.backend.dtos.ReservationExportDto;
+import com.danielfreitassc.backend.dtos.ReservationSlotDto;
 import com.danielfreitassc.backend.models.ReservationEntity;
 
-public interface ReservationRepository extends JpaRepository<ReservationEntity, UUID>{
+import jakarta.persistence.QueryHint;
 
+public interface ReservationRepository extends JpaRepository<ReservationEntity, UUID>, ReservationOverlapRepository, ReservationLockRepository {
+
+    @Override
+    @EntityGraph(attributePaths = {"roomEntity", "userEntity"})
+    Optional<ReservationEntity> findById(UUID id);
+
+    @EntityGraph(attributePaths = {"roomEntity", "userEntity"})
     @Query("SELECT r FROM ReservationEntity r ORDER BY createdAt DESC")
     Page<ReservationEntity> findAllEntitys(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"roomEntity", "userEntity"})
+    @Query("SELECT r FROM ReservationEntity r ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationEntity> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = {"roomEntity", "userEntity"})
+    @Query("SELECT r FROM ReservationEntity r WHERE (r.createdAt, r.id) < (:createdAt, :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<ReservationEntity> findPageAfter(Timestamp createdAt, UUID id, Limit limit);
+
+    // Reservas que ainda não terminaram: as passadas não entram em conflito com nada
+    @Query("SELECT new com.danielfreitassc.backend.dtos.ReservationSlotDto(r.id, r.roomEntity.id, r.startTime, r.endTime) FROM ReservationEntity r WHERE r.endTime > :now")
+    Stream<ReservationSlotDto> streamSlotsEndingAfter(LocalDateTime now);
+
+    @Query("SELECT new com.danielfreitassc.backend.dtos.ReservationSlotDto(r.id, r.roomEntity.id, r.startTime, r.endTime) FROM ReservationEntity r WHERE r.roomEntity.id = :roomId AND r.endTime > :now")
+    List<ReservationSlotDto> findSlotsEndingAfter(UUID roomId, LocalDateTime now);
+
+    // Projeção lida por cursor (fetch size), sem entidades gerenciadas: o heap não cresce com o número de linhas
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.danielfreitassc.backend.dtos.ReservationExportDto(r.id, room.id, room.name, user.id, user.username, r.startTime, r.endTime, r.status, r.totalCost) FROM ReservationEntity r JOIN r.roomEntity room JOIN r.userEntity user WHERE r.startTime >= :from AND r.startTime < :to ORDER BY r.startTime, r.id")
+    Stream<ReservationExportDto> streamForExport(LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT new com.danielfreitassc.backend.dtos.ReservationSlotDto(r.id, r.roomEntity.id, r.startTime, r.endTime) FROM ReservationEntity r WHERE r.roomEntity.id IN :roomIds AND r.startTime < :endTime AND r.endTime > :startTime")
+    List<ReservationSlotDto> findSlotsBetween(Collection<UUID> roomIds, LocalDateTime startTime, LocalDateTime endTime);
+
+    @Query("SELECT DISTINCT r.roomEntity.id FROM ReservationEntity r WHERE r.roomEntity.id IN :roomIds AND r.startTime < :endTime AND r.endTime > :startTime")
+    List<UUID> findRoomIdsBookedBetween(Collection<UUID> roomIds, LocalDateTime startTime, LocalDateTime endTime);
+
+    @Query("SELECT r.roomEntity.id FROM ReservationEntity r WHERE r.id = :id")
+    Optional<UUID> findRoomIdById(UUID id);
+
+    boolean existsByRoomEntityId(UUID roomId);
     
 }
@@ -0,0 +1,20 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.danielfreitassc.backend.dtos.DailyReportTotalsDto;
+import com.danielfreitassc.backend.dtos.RoomReportTotalsDto;
+import com.danielfreitassc.backend.models.RoomDailyStatsEntity;
+import com.danielfreitassc.backend.models.RoomDayId;
+
+public interface RoomDailyStatsRepository extends JpaRepository<RoomDailyStatsEntity, RoomDayId>, RoomStatsTotalsRepository {
+    @Query("SELECT new com.danielfreitassc.backend.dtos.RoomReportTotalsDto(s.id.roomId, SUM(s.reservations), SUM(s.reservedMinutes), SUM(s.revenue)) FROM RoomDailyStatsEntity s WHERE s.id.day BETWEEN :from AND :to GROUP BY s.id.roomId")
+    List<RoomReportTotalsDto> sumByRoom(LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.danielfreitassc.backend.dtos.DailyReportTotalsDto(s.id.day, SUM(s.reservations), SUM(s.reservedMinutes), SUM(s.revenue)) FROM RoomDailyStatsEntity s WHERE s.id.day BETWEEN :from AND :to GROUP BY s.id.day")
+    List<DailyReportTotalsDto> sumByDay(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,17 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.danielfreitassc.backend.dtos.RoomReportTotalsDto;
+import com.danielfreitassc.backend.models.RoomDayId;
+import com.danielfreitassc.backend.models.RoomMonthlyStatsEntity;
+
+public interface RoomMonthlyStatsRepository extends JpaRepository<RoomMonthlyStatsEntity, RoomDayId>, RoomStatsTotalsRepository {
+    // fromMonth e toMonth são o primeiro dia de cada mês
+    @Query("SELECT new com.danielfreitassc.backend.dtos.RoomReportTotalsDto(s.id.roomId, SUM(s.reservations), SUM(s.reservedMinutes), SUM(s.revenue)) FROM RoomMonthlyStatsEntity s WHERE s.id.day BETWEEN :fromMonth AND :toMonth GROUP BY s.id.roomId")
+    List<RoomReportTotalsDto> sumByRoom(LocalDate fromMonth, LocalDate toMonth);
+}
@@ -1,16 +1,47 @@
 package com.danielfreitassc.backend.repositories;
 
+import java.sql.Timestamp;
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.RoomStatus;
 
 public interface  RoomRepository extends  JpaRepository<RoomEntity, UUID>{
     
     @Query("SELECT r FROM RoomEntity r WHERE UPPER(r.name) LIKE CONCAT('%', UPPER(:search),'%') ORDER BY r.createdAt DESC")
     Page<RoomEntity> findAll(Pageable pageable, String search);
+
+    // Prefixo ou similaridade por trigramas (pg_trgm), ordenado pela proximidade com o termo buscado
+    @Query(value = "SELECT * FROM rooms WHERE UPPER(name) LIKE CONCAT(UPPER(:search), '%') OR UPPER(:search) <% UPPER(name) ORDER BY word_similarity(UPPER(:search), UPPER(name)) DESC, created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM rooms WHERE UPPER(name) LIKE CONCAT(UPPER(:search), '%') OR UPPER(:search) <% UPPER(name)",
+            nativeQuery = true)
+    Page<RoomEntity> searchFuzzy(Pageable pageable, String search);
+
+    @Query("SELECT r FROM RoomEntity r WHERE UPPER(r.name) LIKE CONCAT('%', UPPER(:search),'%') ORDER BY r.createdAt DESC, r.id DESC")
+    List<RoomEntity> findFirstPage(String search, Limit limit);
+
+    @Query("SELECT r FROM RoomEntity r WHERE UPPER(r.name) LIKE CONCAT('%', UPPER(:search),'%') AND (r.createdAt, r.id) < (:createdAt, :id) ORDER BY r.createdAt DESC, r.id DESC")
+    List<RoomEntity> findPageAfter(String search, Timestamp createdAt, UUID id, Limit limit);
+
+    // Só a tabela de salas; a ocupação vem dos bitmaps dos nós donos
+    @Query("SELECT r FROM RoomEntity r WHERE r.capacity >= :capacity AND (:location = '' OR UPPER(r.location) LIKE CONCAT('%', UPPER(:location),'%')) AND (r.status IS NULL OR r.status <> com.danielfreitassc.backend.models.RoomStatus.CANCELADO) ORDER BY r.name, r.id")
+    List<RoomEntity> findAvailabilityCandidates(int capacity, String location);
+
+    // Troca o status sem travar a sala; retorna 1 só se o status mudou
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RoomEntity r SET r.status = :status WHERE r.id = :id AND (r.status IS NULL OR r.status <> :status)")
+    int updateStatus(UUID id, RoomStatus status);
+
+    // Mesma coisa, mas só se a sala não tiver mais nenhuma reserva
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RoomEntity r SET r.status = :status WHERE r.id = :id AND (r.status IS NULL OR r.status <> :status) AND NOT EXISTS (SELECT 1 FROM ReservationEntity res WHERE res.roomEntity.id = :id)")
+    int updateStatusIfIdle(UUID id, RoomStatus status);
 }
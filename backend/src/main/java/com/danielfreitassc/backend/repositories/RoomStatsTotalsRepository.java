@@ -0,0 +1,11 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.util.Collection;
+
+import com.danielfreitassc.backend.models.RoomStatsTotals;
+
+public interface RoomStatsTotalsRepository {
+
+    // Soma cada linha aos totais do período (sala e dia/mês), criando o período se ainda não existir
+    void addTotals(Collection<? extends RoomStatsTotals> totals);
+}
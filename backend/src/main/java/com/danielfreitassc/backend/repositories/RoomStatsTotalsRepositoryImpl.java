@@ -0,0 +1,86 @@
+package com.danielfreitassc.backend.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.danielfreitassc.backend.models.RoomStatsTotals;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Table;
+
+/**
+ * No PostgreSQL usa INSERT ... ON CONFLICT DO UPDATE: o período é criado ou somado no mesmo comando, então duas
+ * instâncias que abrem o mesmo dia ao mesmo tempo não colidem na chave primária.
+ * Nos outros bancos (H2 nos testes e benchmarks) soma com UPDATE e insere a linha quando o período ainda não existe.
+ */
+public class RoomStatsTotalsRepositoryImpl implements RoomStatsTotalsRepository {
+    // 5 parâmetros por linha, longe do limite de 65535 parâmetros por comando do PostgreSQL
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean upsert;
+
+    public RoomStatsTotalsRepositoryImpl(EntityManagerFactory entityManagerFactory) {
+        this.upsert = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public void addTotals(Collection<? extends RoomStatsTotals> totals) {
+        if (totals.isEmpty()) return;
+        if (upsert) {
+            upsert(List.copyOf(totals));
+        } else {
+            totals.forEach(this::incrementOrInsert);
+        }
+    }
+
+    private void upsert(List<? extends RoomStatsTotals> rows) {
+        String table = rows.get(0).getClass().getAnnotation(Table.class).name();
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<? extends RoomStatsTotals> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            Query query = entityManager.createNativeQuery(upsertSql(table, chunk.size()));
+            int position = 1;
+            for (RoomStatsTotals row : chunk) {
+                query.setParameter(position++, row.getId().getRoomId());
+                query.setParameter(position++, row.getId().getDay());
+                query.setParameter(position++, row.getReservations());
+                query.setParameter(position++, row.getReservedMinutes());
+                query.setParameter(position++, row.getRevenue());
+            }
+            query.executeUpdate();
+        }
+    }
+
+    private static String upsertSql(String table, int rows) {
+        return "INSERT INTO " + table + " (room_id, stats_day, reservations, reserved_minutes, revenue) VALUES "
+                + IntStream.range(0, rows)
+                        .mapToObj(row -> IntStream.rangeClosed(5 * row + 1, 5 * row + 5).mapToObj(position -> "?" + position).collect(Collectors.joining(", ", "(", ")")))
+                        .collect(Collectors.joining(", "))
+                + " ON CONFLICT (room_id, stats_day) DO UPDATE SET"
+                + " reservations = " + table + ".reservations + EXCLUDED.reservations,"
+                + " reserved_minutes = " + table + ".reserved_minutes + EXCLUDED.reserved_minutes,"
+                + " revenue = " + table + ".revenue + EXCLUDED.revenue";
+    }
+
+    private void incrementOrInsert(RoomStatsTotals row) {
+        String entity = entityManager.getMetamodel().entity(row.getClass()).getName();
+        int updated = entityManager.createQuery("UPDATE " + entity + " s SET s.reservations = s.reservations + :reservations,"
+                        + " s.reservedMinutes = s.reservedMinutes + :minutes, s.revenue = s.revenue + :revenue WHERE s.id = :id")
+                .setParameter("reservations", row.getReservations())
+                .setParameter("minutes", row.getReservedMinutes())
+                .setParameter("revenue", row.getRevenue())
+                .setParameter("id", row.getId())
+                .executeUpdate();
+        if (updated == 0) entityManager.persist(row);
+    }
+}
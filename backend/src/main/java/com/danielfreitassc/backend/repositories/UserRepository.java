@@ -1,12 +1,15 @@
 package com.danielfreitassc.backend.repositories;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.danielfreitassc.backend.models.UserEntity;
 
@@ -16,5 +19,17 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID>{
     
     @Query("SELECT u FROM UserEntity u WHERE UPPER(u.name) LIKE CONCAT('%',UPPER(:search),'%') ORDER BY createdAt DESC")
     Page<UserEntity> findAll(Pageable pageable, String search);
+
+    // Prefixo ou similaridade por trigramas (pg_trgm), ordenado pela proximidade com o termo buscado
+    @Query(value = "SELECT * FROM users WHERE UPPER(name) LIKE CONCAT(UPPER(:search), '%') OR UPPER(:search) <% UPPER(name) ORDER BY word_similarity(UPPER(:search), UPPER(name)) DESC, created_at DESC",
+            countQuery = "SELECT COUNT(*) FROM users WHERE UPPER(name) LIKE CONCAT(UPPER(:search), '%') OR UPPER(:search) <% UPPER(name)",
+            nativeQuery = true)
+    Page<UserEntity> searchFuzzy(Pageable pageable, String search);
+
+    // Atualiza só as colunas de bloqueio, sem carregar e regravar o usuário inteiro
+    @Modifying
+    @Transactional
+    @Query("UPDATE UserEntity u SET u.loginAttempts = :loginAttempts, u.lockoutExpiration = :lockoutExpiration WHERE u.id = :id")
+    void updateLoginAttempts(UUID id, int loginAttempts, LocalDateTime lockoutExpiration);
     
 }
@@ -1,7 +1,7 @@
 package com.danielfreitassc.backend.services;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import com.danielfreitassc.backend.dtos.UserRequestDto;
@@ -17,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminUserInitializer {
     private  final UserMapper userMapper;
     private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
     @Value("${admin.username}")
     private String adminUsername;
 
@@ -29,7 +30,7 @@ public class AdminUserInitializer {
         if(userRepository.findByUsername(adminUsername) != null) {
             System.out.println("Erro");
         } else {
-            String encryptedPassword =  new BCryptPasswordEncoder().encode(adminPassword);
+            String encryptedPassword =  passwordEncoder.encode(adminPassword);
             UserRequestDto adminUserDTO = new UserRequestDto("admin","admin" ,adminUsername, encryptedPassword, UserRole.ADMIN);
             
             userRepository.save(userMapper.toEntity(adminUserDTO));
@@ -1,38 +1,45 @@
 package com.danielfreitassc.backend.services;
 
-import javax.management.RuntimeErrorException;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import com.danielfreitassc.backend.dtos.AuthenticationDTO;
 import com.danielfreitassc.backend.dtos.LoginResponseDTO;
 import com.danielfreitassc.backend.dtos.ResponseMessageDTO;
+import com.danielfreitassc.backend.infra.security.LoginAttemptTracker;
 import com.danielfreitassc.backend.infra.security.TokenService;
 import com.danielfreitassc.backend.models.UserEntity;
 import com.danielfreitassc.backend.repositories.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "authentication.service", histogram = true)
 @RequiredArgsConstructor
 public class AuthenticationService {    
     private final UserRepository userRepository;
     private final AuthenticationManager authenticationManager;
     private final TokenService tokenService;
+    private final LoginAttemptTracker loginAttemptTracker;
+    private final MeterRegistry meterRegistry;
     
     public ResponseEntity<Object> login(AuthenticationDTO data) {
         UserDetails userDetails = userRepository.findByUsername(data.username());
         if (!(userDetails instanceof UserEntity)) {
+            countLogin("unknown_user");
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ResponseMessageDTO("Usuário não encontrado."));
         }
 
         UserEntity user = (UserEntity) userDetails;
         if(user.isAccountLocked()) {
+            countLogin("locked");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ResponseMessageDTO("A conta está bloqueada. Por favor, tente novamente mais tarde."));
         }
 
@@ -40,18 +47,18 @@ public class AuthenticationService {
             var usernamePassword = new UsernamePasswordAuthenticationToken(data.username(), data.password());
             authenticationManager.authenticate(usernamePassword);
             var token = tokenService.generateToken(user);
-            user.resetLoginAttempts();
-            userRepository.save(user);
+            loginAttemptTracker.loginSucceeded(user);
+            countLogin("success");
 
             return ResponseEntity.ok(new LoginResponseDTO(token));
-        } catch (RuntimeErrorException e) {
-            user.incrementLoginAttempts();
-            if(user.getLoginAttempts() >= 4) {
-                user.lockAccount();
-            }
-            userRepository.save(user);
-            int remainingAttempts = 4 - user.getLoginAttempts();
+        } catch (AuthenticationException e) {
+            countLogin("failure");
+            int remainingAttempts = loginAttemptTracker.loginFailed(user);
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ResponseMessageDTO("Senha incorreta: " + remainingAttempts));
         }
     }
-}   
+
+    private void countLogin(String outcome) {
+        meterRegistry.counter("auth.login", "outcome", outcome).increment();
+    }
+}
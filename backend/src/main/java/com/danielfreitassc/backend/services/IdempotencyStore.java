@@ -0,0 +1,68 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Resultados de requisições com Idempotency-Key, guardados por uma janela configurável.
+ * Repetições com a mesma chave recebem a mesma resposta e requisições simultâneas esperam a execução em andamento.
+ * Execuções que falham não ficam guardadas, para que o cliente possa tentar de novo.
+ */
+@Component
+public class IdempotencyStore {
+    private record Execution(Object request, CompletableFuture<Object> result) {}
+
+    private final Cache<String, Execution> executions;
+
+    public IdempotencyStore(
+            @Value("${api.idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${api.idempotency.ttl:24h}") Duration ttl) {
+        this.executions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Object request, Supplier<T> action) {
+        Execution execution = new Execution(request, new CompletableFuture<>());
+        Execution existing = executions.asMap().putIfAbsent(key, execution);
+
+        if (existing != null) {
+            if (!existing.request().equals(request)) {
+                throw new ResponseStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key já utilizada com outra requisição");
+            }
+            return (T) await(existing.result());
+        }
+
+        try {
+            T result = action.get();
+            execution.result().complete(result);
+            return result;
+        } catch (Throwable exception) {
+            executions.asMap().remove(key, execution);
+            execution.result().completeExceptionally(exception);
+            throw exception;
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) throw cause;
+            if (exception.getCause() instanceof Error cause) throw cause;
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ocupação de uma sala em faixas de 15 minutos: 96 bits por dia em dois longs.
+ * Um bit ligado indica que alguma reserva toca a faixa, então uma consulta sem nenhum bit ligado
+ * está livre com certeza; com bits ligados a resposta exata fica com o {@link RoomSchedule}.
+ * Não é thread-safe, quem sincroniza é o RoomSchedule.
+ */
+class OccupancyBitmap {
+    static final int SLOT_MINUTES = 15;
+    static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int WORDS_PER_DAY = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private final Map<LocalDate, long[]> days = new HashMap<>();
+
+    void mark(LocalDateTime startTime, LocalDateTime endTime) {
+        forEachDay(startTime, endTime, (day, from, to) -> {
+            long[] bits = days.computeIfAbsent(day, d -> new long[WORDS_PER_DAY]);
+            setRange(bits, from, to);
+            return true;
+        });
+    }
+
+    void clear(LocalDate day) {
+        days.remove(day);
+    }
+
+    void clearBefore(LocalDate day) {
+        days.keySet().removeIf(marked -> marked.isBefore(day));
+    }
+
+    boolean isClear(LocalDateTime startTime, LocalDateTime endTime) {
+        return forEachDay(startTime, endTime, (day, from, to) -> {
+            long[] bits = days.get(day);
+            return bits == null || !intersects(bits, from, to);
+        });
+    }
+
+    @FunctionalInterface
+    private interface DayRange {
+        boolean accept(LocalDate day, int fromSlot, int toSlot);
+    }
+
+    // Percorre os dias de [início, fim) com as faixas [fromSlot, toSlot) de cada um; para no primeiro false
+    private static boolean forEachDay(LocalDateTime startTime, LocalDateTime endTime, DayRange range) {
+        LocalDate lastDay = endTime.toLocalTime().equals(LocalTime.MIDNIGHT) ? endTime.toLocalDate().minusDays(1) : endTime.toLocalDate();
+        for (LocalDate day = startTime.toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            int from = day.equals(startTime.toLocalDate()) ? floorSlot(startTime.toLocalTime()) : 0;
+            int to = day.equals(endTime.toLocalDate()) ? ceilSlot(endTime.toLocalTime()) : SLOTS_PER_DAY;
+            if (from < to && !range.accept(day, from, to)) return false;
+        }
+        return true;
+    }
+
+    private static int floorSlot(LocalTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    private static int ceilSlot(LocalTime time) {
+        long nanos = time.toNanoOfDay();
+        long slotNanos = SLOT_MINUTES * 60_000_000_000L;
+        return (int) ((nanos + slotNanos - 1) / slotNanos);
+    }
+
+    private static void setRange(long[] bits, int from, int to) {
+        for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+            bits[word] |= mask(word, from, to);
+        }
+    }
+
+    private static boolean intersects(long[] bits, int from, int to) {
+        for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+            if ((bits[word] & mask(word, from, to)) != 0) return true;
+        }
+        return false;
+    }
+
+    private static long mask(int word, int from, int to) {
+        int low = Math.max(from - word * Long.SIZE, 0);
+        int high = Math.min(to - word * Long.SIZE, Long.SIZE);
+        long upper = high == Long.SIZE ? -1L : (1L << high) - 1;
+        return upper & (-1L << low);
+    }
+}
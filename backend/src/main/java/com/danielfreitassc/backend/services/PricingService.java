@@ -0,0 +1,82 @@
+package com.danielfreitassc.backend.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.danielfreitassc.backend.models.RoomEntity;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+@Timed(value = "pricing.service", histogram = true)
+public class PricingService {
+    private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+    private final RateTable rateTable;
+
+    public PricingService(
+            @Value("${pricing.peak.start:08:00}") String peakStart,
+            @Value("${pricing.peak.end:18:00}") String peakEnd,
+            @Value("${pricing.peak.multiplier:1.00}") BigDecimal peakMultiplier,
+            @Value("${pricing.off-peak.multiplier:1.00}") BigDecimal offPeakMultiplier,
+            @Value("${pricing.weekend.multiplier:1.00}") BigDecimal weekendMultiplier,
+            @Value("${pricing.location-multipliers:}") String locationMultipliers) {
+        this.rateTable = new RateTable(LocalTime.parse(peakStart), LocalTime.parse(peakEnd),
+                percent(peakMultiplier), percent(offPeakMultiplier), percent(weekendMultiplier), parseLocations(locationMultipliers));
+    }
+
+    public BigDecimal calculateTotalCost(RoomEntity room, LocalDateTime startTime, LocalDateTime endTime) {
+        return BigDecimal.valueOf(calculateTotalCostCents(room, startTime, endTime), 2);
+    }
+
+    public long calculateTotalCostCents(RoomEntity room, LocalDateTime startTime, LocalDateTime endTime) {
+        if (endTime.isBefore(startTime)) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time deve ser posterior ao start time");
+
+        long durationInMinutes = secondsBetween(startTime, endTime) / 60;
+
+        if (durationInMinutes <= 0) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duração inválida da reserva");
+
+        if (room.getPriceCents() <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Preço do quarto inválido");
+        }
+
+        try {
+            return rateTable.cost(room.getPriceCents(), room.getLocation(), startTime, durationInMinutes);
+        } catch (ArithmeticException exception) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duração da reserva grande demais para calcular o custo");
+        }
+    }
+
+    // Segundos inteiros entre os dois horários, sem criar um Duration
+    private static long secondsBetween(LocalDateTime startTime, LocalDateTime endTime) {
+        long days = endTime.toLocalDate().toEpochDay() - startTime.toLocalDate().toEpochDay();
+        return days * SECONDS_PER_DAY + endTime.toLocalTime().toSecondOfDay() - startTime.toLocalTime().toSecondOfDay();
+    }
+
+    private static int percent(BigDecimal multiplier) {
+        if (multiplier.signum() < 0 || multiplier.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Multiplicador de preço inválido, use um valor positivo com até duas casas decimais: " + multiplier);
+        }
+        return multiplier.movePointRight(2).intValueExact();
+    }
+
+    // Formato "Bloco A=1.10,Bloco C=0.90"
+    private static Map<String, Integer> parseLocations(String locationMultipliers) {
+        Map<String, Integer> percents = new HashMap<>();
+        for (String entry : locationMultipliers.split(",")) {
+            if (entry.isBlank()) continue;
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) throw new IllegalArgumentException("Multiplicador de local inválido: " + entry);
+            percents.put(entry.substring(0, separator), percent(new BigDecimal(entry.substring(separator + 1).trim())));
+        }
+        return percents;
+    }
+}
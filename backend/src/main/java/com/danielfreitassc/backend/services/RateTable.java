@@ -0,0 +1,66 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Percentual do preço base cobrado em cada minuto da semana (segunda 00:00 = minuto 0), guardado como soma acumulada:
+ * o peso de qualquer intervalo sai de duas leituras do array, em long e sem alocar, seja a reserva de minutos ou de semanas.
+ * Imutável depois de montada.
+ */
+class RateTable {
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+    static final int FULL_RATE = 100;
+    private static final int WEEKEND_START = 5 * MINUTES_PER_DAY;
+    // Preço por hora -> minuto, percentual do horário e percentual do local
+    private static final long DIVISOR = 60L * FULL_RATE * FULL_RATE;
+
+    private final long[] cumulative = new long[MINUTES_PER_WEEK + 1];
+    private final Map<String, Integer> locationPercents = new HashMap<>();
+
+    // Pico vale nos dias úteis em [peakStart, peakEnd), que pode passar da meia-noite; sábado e domingo usam o percentual de fim de semana
+    RateTable(LocalTime peakStart, LocalTime peakEnd, int peakPercent, int offPeakPercent, int weekendPercent, Map<String, Integer> locationPercents) {
+        int from = peakStart.toSecondOfDay() / 60;
+        int to = peakEnd.toSecondOfDay() / 60;
+        for (int minute = 0; minute < MINUTES_PER_WEEK; minute++) {
+            int minuteOfDay = minute % MINUTES_PER_DAY;
+            boolean peak = from <= to ? minuteOfDay >= from && minuteOfDay < to : minuteOfDay >= from || minuteOfDay < to;
+            int percent = minute >= WEEKEND_START ? weekendPercent : peak ? peakPercent : offPeakPercent;
+            cumulative[minute + 1] = cumulative[minute] + percent;
+        }
+        locationPercents.forEach((location, percent) -> this.locationPercents.put(normalize(location), percent));
+    }
+
+    static RateTable flat() {
+        return new RateTable(LocalTime.MIDNIGHT, LocalTime.MIDNIGHT, FULL_RATE, FULL_RATE, FULL_RATE, Map.of());
+    }
+
+    // Custo em centavos arredondado uma única vez (HALF_UP), no fim da conta
+    long cost(long priceCentsPerHour, String location, LocalDateTime start, long minutes) {
+        long numerator = Math.multiplyExact(Math.multiplyExact(priceCentsPerHour, (long) locationPercent(location)), weightedMinutes(start, minutes));
+        return (numerator + DIVISOR / 2) / DIVISOR;
+    }
+
+    // Soma dos percentuais de cada minuto de [start, start + minutes)
+    long weightedMinutes(LocalDateTime start, long minutes) {
+        int offset = (start.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + start.getHour() * 60 + start.getMinute();
+        int rest = (int) (minutes % MINUTES_PER_WEEK);
+        long weighted = Math.multiplyExact(minutes / MINUTES_PER_WEEK, cumulative[MINUTES_PER_WEEK]);
+        int end = offset + rest;
+        if (end <= MINUTES_PER_WEEK) return weighted + cumulative[end] - cumulative[offset];
+        return weighted + cumulative[MINUTES_PER_WEEK] - cumulative[offset] + cumulative[end - MINUTES_PER_WEEK];
+    }
+
+    int locationPercent(String location) {
+        if (location == null || locationPercents.isEmpty()) return FULL_RATE;
+        return locationPercents.getOrDefault(normalize(location), FULL_RATE);
+    }
+
+    private static String normalize(String location) {
+        return location.trim().toUpperCase(Locale.ROOT);
+    }
+}
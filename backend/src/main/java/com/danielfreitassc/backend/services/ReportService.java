@@ -0,0 +1,176 @@
+package com.danielfreitassc.backend.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.danielfreitassc.backend.dtos.DailyReportTotalsDto;
+import com.danielfreitassc.backend.dtos.OccupancyReportRowDto;
+import com.danielfreitassc.backend.dtos.ReportDto;
+import com.danielfreitassc.backend.dtos.RevenueReportRowDto;
+import com.danielfreitassc.backend.dtos.RoomReportTotalsDto;
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.repositories.RoomDailyStatsRepository;
+import com.danielfreitassc.backend.repositories.RoomMonthlyStatsRepository;
+import com.danielfreitassc.backend.repositories.RoomRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Relatórios de receita e ocupação lidos das tabelas room_daily_stats e room_monthly_stats
+ * (uma linha por sala e dia ou mês), sem percorrer as reservas. A ocupação considera as 24 horas de cada dia como disponíveis.
+ */
+@Service
+@Timed(value = "report.service", histogram = true)
+@RequiredArgsConstructor
+public class ReportService {
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    private static final long MAX_REPORT_DAYS = 366;
+    private static final BigDecimal NO_REVENUE = BigDecimal.ZERO.setScale(2);
+    private static final RoomReportTotalsDto NO_ROOM_TOTALS = new RoomReportTotalsDto(null, 0L, 0L, NO_REVENUE);
+
+    private enum GroupBy { ROOM, LOCATION, DAY }
+
+    private final RoomDailyStatsRepository roomDailyStatsRepository;
+    private final RoomMonthlyStatsRepository roomMonthlyStatsRepository;
+    private final RoomRepository roomRepository;
+
+    @Transactional(readOnly = true)
+    public ReportDto<RevenueReportRowDto> revenue(LocalDate from, LocalDate to, String groupBy) {
+        GroupBy grouping = parseGroupBy(groupBy);
+        checkPeriod(from, to);
+
+        List<RevenueReportRowDto> rows = new ArrayList<>();
+        switch (grouping) {
+            case ROOM -> {
+                Map<UUID, RoomReportTotalsDto> totals = totalsByRoom(from, to);
+                for (RoomEntity room : rooms()) {
+                    RoomReportTotalsDto total = totals.getOrDefault(room.getId(), NO_ROOM_TOTALS);
+                    rows.add(new RevenueReportRowDto(room.getId(), room.getName(), room.getLocation(), null, total.reservations(), total.revenue()));
+                }
+            }
+            case LOCATION -> {
+                Map<UUID, RoomReportTotalsDto> totals = totalsByRoom(from, to);
+                roomsByLocation().forEach((location, rooms) -> {
+                    long reservations = 0;
+                    BigDecimal revenue = NO_REVENUE;
+                    for (RoomEntity room : rooms) {
+                        RoomReportTotalsDto total = totals.getOrDefault(room.getId(), NO_ROOM_TOTALS);
+                        reservations += total.reservations();
+                        revenue = revenue.add(total.revenue());
+                    }
+                    rows.add(new RevenueReportRowDto(null, null, location, null, reservations, revenue));
+                });
+            }
+            case DAY -> {
+                Map<LocalDate, DailyReportTotalsDto> totals = totalsByDay(from, to);
+                for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                    DailyReportTotalsDto total = totals.get(day);
+                    rows.add(new RevenueReportRowDto(null, null, null, day, total != null ? total.reservations() : 0, total != null ? total.revenue() : NO_REVENUE));
+                }
+            }
+        }
+        return new ReportDto<>(from, to, grouping.name().toLowerCase(), rows);
+    }
+
+    @Transactional(readOnly = true)
+    public ReportDto<OccupancyReportRowDto> occupancy(LocalDate from, LocalDate to, String groupBy) {
+        GroupBy grouping = parseGroupBy(groupBy);
+        checkPeriod(from, to);
+        long minutesPerRoom = (ChronoUnit.DAYS.between(from, to) + 1) * MINUTES_PER_DAY;
+
+        List<OccupancyReportRowDto> rows = new ArrayList<>();
+        switch (grouping) {
+            case ROOM -> {
+                Map<UUID, RoomReportTotalsDto> totals = totalsByRoom(from, to);
+                for (RoomEntity room : rooms()) {
+                    long reserved = totals.getOrDefault(room.getId(), NO_ROOM_TOTALS).reservedMinutes();
+                    rows.add(new OccupancyReportRowDto(room.getId(), room.getName(), room.getLocation(), null, reserved, minutesPerRoom, rate(reserved, minutesPerRoom)));
+                }
+            }
+            case LOCATION -> {
+                Map<UUID, RoomReportTotalsDto> totals = totalsByRoom(from, to);
+                roomsByLocation().forEach((location, rooms) -> {
+                    long reserved = rooms.stream().mapToLong(room -> totals.getOrDefault(room.getId(), NO_ROOM_TOTALS).reservedMinutes()).sum();
+                    long available = rooms.size() * minutesPerRoom;
+                    rows.add(new OccupancyReportRowDto(null, null, location, null, reserved, available, rate(reserved, available)));
+                });
+            }
+            case DAY -> {
+                Map<LocalDate, DailyReportTotalsDto> totals = totalsByDay(from, to);
+                long available = roomRepository.count() * MINUTES_PER_DAY;
+                for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                    DailyReportTotalsDto total = totals.get(day);
+                    long reserved = total != null ? total.reservedMinutes() : 0;
+                    rows.add(new OccupancyReportRowDto(null, null, null, day, reserved, available, rate(reserved, available)));
+                }
+            }
+        }
+        return new ReportDto<>(from, to, grouping.name().toLowerCase(), rows);
+    }
+
+    // Meses inteiros do período vêm de room_monthly_stats; só as pontas incompletas são somadas por dia
+    private Map<UUID, RoomReportTotalsDto> totalsByRoom(LocalDate from, LocalDate to) {
+        LocalDate firstMonth = from.getDayOfMonth() == 1 ? from : from.plusMonths(1).withDayOfMonth(1);
+        LocalDate tailStart = to.plusDays(1).withDayOfMonth(1);
+
+        List<RoomReportTotalsDto> totals = new ArrayList<>();
+        if (!firstMonth.isBefore(tailStart)) {
+            totals.addAll(roomDailyStatsRepository.sumByRoom(from, to));
+        } else {
+            totals.addAll(roomMonthlyStatsRepository.sumByRoom(firstMonth, tailStart.minusMonths(1)));
+            if (from.isBefore(firstMonth)) totals.addAll(roomDailyStatsRepository.sumByRoom(from, firstMonth.minusDays(1)));
+            if (!tailStart.isAfter(to)) totals.addAll(roomDailyStatsRepository.sumByRoom(tailStart, to));
+        }
+        return totals.stream().collect(Collectors.toMap(RoomReportTotalsDto::roomId, Function.identity(), ReportService::sum));
+    }
+
+    private static RoomReportTotalsDto sum(RoomReportTotalsDto first, RoomReportTotalsDto second) {
+        return new RoomReportTotalsDto(first.roomId(), first.reservations() + second.reservations(), first.reservedMinutes() + second.reservedMinutes(), first.revenue().add(second.revenue()));
+    }
+
+    private Map<LocalDate, DailyReportTotalsDto> totalsByDay(LocalDate from, LocalDate to) {
+        return roomDailyStatsRepository.sumByDay(from, to).stream()
+                .collect(Collectors.toMap(DailyReportTotalsDto::day, Function.identity()));
+    }
+
+    private List<RoomEntity> rooms() {
+        return roomRepository.findAll(Sort.by("name", "id"));
+    }
+
+    private Map<String, List<RoomEntity>> roomsByLocation() {
+        return rooms().stream().collect(Collectors.groupingBy(room -> room.getLocation() != null ? room.getLocation() : "", TreeMap::new, Collectors.toList()));
+    }
+
+    private static BigDecimal rate(long reserved, long available) {
+        if (available == 0) return BigDecimal.ZERO;
+        return BigDecimal.valueOf(reserved).divide(BigDecimal.valueOf(available), 4, RoundingMode.HALF_UP);
+    }
+
+    private static void checkPeriod(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A data final não pode ser anterior à data inicial");
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O período do relatório não pode passar de 366 dias");
+    }
+
+    private static GroupBy parseGroupBy(String groupBy) {
+        for (GroupBy candidate : GroupBy.values()) {
+            if (candidate.name().equalsIgnoreCase(groupBy)) return candidate;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Agrupamento inválido, use room, location ou day");
+    }
+}
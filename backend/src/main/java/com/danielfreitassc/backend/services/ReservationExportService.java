@@ -0,0 +1,129 @@
+package com.danielfreitassc.backend.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.danielfreitassc.backend.dtos.ReservationExportDto;
+import com.danielfreitassc.backend.repositories.ReservationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Exporta reservas em CSV ou NDJSON escrevendo cada linha assim que ela sai do cursor do banco,
+ * então o uso de memória não depende da quantidade de reservas exportadas.
+ */
+@Service
+public class ReservationExportService {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    private static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final String CSV_HEADER = "id,roomId,roomName,userId,username,startTime,endTime,status,totalCost\n";
+
+    private enum Format {
+        CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8)),
+        NDJSON("ndjson", MediaType.APPLICATION_NDJSON);
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+    }
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter jsonWriter;
+
+    public ReservationExportService(ReservationRepository reservationRepository, PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.reservationRepository = reservationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonWriter = objectMapper.writerFor(ReservationExportDto.class);
+    }
+
+    public ResponseEntity<StreamingResponseBody> export(String format, LocalDateTime from, LocalDateTime to) {
+        Format exportFormat = parseFormat(format);
+        LocalDateTime start = from != null ? from : MIN_DATE;
+        LocalDateTime end = to != null ? to : MAX_DATE;
+        if (!start.isBefore(end)) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A data final deve ser posterior à data inicial");
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+            // O PostgreSQL só respeita o fetch size dentro de uma transação
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ReservationExportDto> rows = reservationRepository.streamForExport(start, end)) {
+                    if (exportFormat == Format.CSV) write(writer, CSV_HEADER);
+                    rows.forEach(row -> write(writer, exportFormat == Format.CSV ? toCsv(row) : toJson(row)));
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservations." + exportFormat.extension + "\"")
+                .body(body);
+    }
+
+    private static Format parseFormat(String format) {
+        for (Format candidate : Format.values()) {
+            if (candidate.extension.equalsIgnoreCase(format)) return candidate;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Formato inválido, use csv ou ndjson");
+    }
+
+    private static void write(Writer writer, String line) {
+        try {
+            writer.write(line);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private String toJson(ReservationExportDto row) {
+        try {
+            return jsonWriter.writeValueAsString(row) + "\n";
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static String toCsv(ReservationExportDto row) {
+        return String.join(",",
+                String.valueOf(row.id()),
+                String.valueOf(row.roomId()),
+                csvField(row.roomName()),
+                String.valueOf(row.userId()),
+                csvField(row.username()),
+                row.startTime() != null ? row.startTime().format(DATE_FORMAT) : "",
+                row.endTime() != null ? row.endTime().format(DATE_FORMAT) : "",
+                row.status() != null ? row.status().name() : "",
+                row.totalCost() != null ? row.totalCost().toPlainString() : "") + "\n";
+    }
+
+    private static String csvField(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) return value;
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
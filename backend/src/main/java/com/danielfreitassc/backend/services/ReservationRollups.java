@@ -0,0 +1,109 @@
+package com.danielfreitassc.backend.services;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.models.RoomDailyStatsEntity;
+import com.danielfreitassc.backend.models.RoomDayId;
+import com.danielfreitassc.backend.models.RoomMonthlyStatsEntity;
+import com.danielfreitassc.backend.models.RoomStatsTotals;
+import com.danielfreitassc.backend.repositories.RoomDailyStatsRepository;
+import com.danielfreitassc.backend.repositories.RoomMonthlyStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mantém as tabelas room_daily_stats e room_monthly_stats a cada reserva criada, alterada ou removida.
+ * As variações de cada período são somadas em memória e gravadas com um upsert por tabela
+ * (RoomStatsTotalsRepository), que soma no próprio comando: transações concorrentes na mesma sala não perdem
+ * atualizações nem colidem ao criar o mesmo período, sem precisar travar a sala.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationRollups {
+    // Ordem fixa das linhas: dois upserts concorrentes travam os mesmos períodos na mesma sequência
+    private static final Comparator<RoomDayId> PERIOD_ORDER = Comparator.comparing(RoomDayId::getRoomId).thenComparing(RoomDayId::getDay);
+
+    private final RoomDailyStatsRepository roomDailyStatsRepository;
+    private final RoomMonthlyStatsRepository roomMonthlyStatsRepository;
+
+    // Deve ser chamado antes de alterar os campos da reserva (update) ou ao removê-la
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(ReservationEntity reservation) {
+        apply(List.of(reservation), -1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void add(ReservationEntity reservation) {
+        apply(List.of(reservation), 1);
+    }
+
+    // Lote: uma linha por período no upsert, somando todas as reservas
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addAll(Collection<ReservationEntity> reservations) {
+        apply(reservations, 1);
+    }
+
+    private void apply(Collection<ReservationEntity> reservations, int sign) {
+        Map<RoomDayId, RoomDailyStatsEntity> daily = new TreeMap<>(PERIOD_ORDER);
+        Map<RoomDayId, RoomMonthlyStatsEntity> monthly = new TreeMap<>(PERIOD_ORDER);
+
+        for (ReservationEntity reservation : reservations) {
+            UUID roomId = reservation.getRoomEntity().getId();
+            LocalDate startDay = reservation.getStartTime().toLocalDate();
+            BigDecimal totalCost = reservation.getTotalCost() != null ? reservation.getTotalCost() : BigDecimal.ZERO;
+            BigDecimal revenue = sign > 0 ? totalCost : totalCost.negate();
+
+            minutesPerDay(reservation.getStartTime(), reservation.getEndTime()).forEach((day, minutes) -> {
+                // Quantidade e receita entram só no dia (e no mês) de início
+                boolean start = day.equals(startDay);
+                int count = start ? sign : 0;
+                BigDecimal periodRevenue = start ? revenue : BigDecimal.ZERO;
+                addTo(daily.computeIfAbsent(new RoomDayId(roomId, day), RoomDailyStatsEntity::new), count, sign * minutes, periodRevenue);
+                addTo(monthly.computeIfAbsent(new RoomDayId(roomId, day.withDayOfMonth(1)), RoomMonthlyStatsEntity::new), count, sign * minutes, periodRevenue);
+            });
+        }
+
+        roomDailyStatsRepository.addTotals(daily.values());
+        roomMonthlyStatsRepository.addTotals(monthly.values());
+    }
+
+    // Linhas zeradas ficam na tabela: um update no mesmo período remove e soma de novo na mesma transação
+    private static void addTo(RoomStatsTotals stats, int reservations, long minutes, BigDecimal revenue) {
+        stats.setReservations(stats.getReservations() + reservations);
+        stats.setReservedMinutes(stats.getReservedMinutes() + minutes);
+        stats.setRevenue(stats.getRevenue().add(revenue));
+    }
+
+    // Minutos de [start, end) em cada dia do calendário que o intervalo ocupa
+    static Map<LocalDate, Long> minutesPerDay(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDate, Long> minutes = new LinkedHashMap<>();
+        LocalDate day = start.toLocalDate();
+        if (!end.isAfter(start)) {
+            minutes.put(day, 0L);
+            return minutes;
+        }
+        while (day.atStartOfDay().isBefore(end)) {
+            LocalDateTime from = start.isAfter(day.atStartOfDay()) ? start : day.atStartOfDay();
+            LocalDateTime nextDay = day.plusDays(1).atStartOfDay();
+            LocalDateTime to = end.isBefore(nextDay) ? end : nextDay;
+            minutes.put(day, Duration.between(from, to).toMinutes());
+            day = day.plusDays(1);
+        }
+        return minutes;
+    }
+}
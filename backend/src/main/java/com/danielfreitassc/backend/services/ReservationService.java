@@ -1,21 +1,48 @@
 package com.danielfreitassc.backend.services;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Duration;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel.PageMetadata;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.danielfreitassc.backend.dtos.CursorPageDto;
+import com.danielfreitassc.backend.dtos.ReservationBatchItemDto;
+import com.danielfreitassc.backend.dtos.ReservationBatchResponseDto;
+import com.danielfreitassc.backend.dtos.ReservationCompactPageDto;
+import com.danielfreitassc.backend.dtos.ReservationRecurrenceRequestDto;
 import com.danielfreitassc.backend.dtos.ReservationRequestDto;
 import com.danielfreitassc.backend.dtos.ReservationResponseDto;
+import com.danielfreitassc.backend.infra.outbox.ReservationOutbox;
+import com.danielfreitassc.backend.infra.pagination.PageCursor;
+import com.danielfreitassc.backend.mappers.ReservationCompactMapper;
 import com.danielfreitassc.backend.mappers.ReservationMapper;
 import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.models.ReservationEventType;
 import com.danielfreitassc.backend.models.RoomEntity;
 import com.danielfreitassc.backend.models.RoomStatus;
 import com.danielfreitassc.backend.models.UserEntity;
@@ -23,119 +50,265 @@ import com.danielfreitassc.backend.repositories.ReservationRepository;
 import com.danielfreitassc.backend.repositories.RoomRepository;
 import com.danielfreitassc.backend.repositories.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "reservation.service", histogram = true)
 @RequiredArgsConstructor
 public class ReservationService {
+    private static final String EXCLUSION_VIOLATION = "23P01";
+
     private final ReservationRepository reservationRepository;
     private final ReservationMapper reservationMapper;
+    private final ReservationCompactMapper reservationCompactMapper;
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final RoomLocks roomLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final PricingService pricingService;
+    private final MeterRegistry meterRegistry;
+    private final RoomService roomService;
+    private final IdempotencyStore idempotencyStore;
+    private final ReservationOutbox reservationOutbox;
+    private final RoomStatusBroadcaster roomStatusBroadcaster;
+    private final ReservationRollups reservationRollups;
 
     public ReservationResponseDto create(ReservationRequestDto reservationRequestDto) {
-        RoomEntity room = checkIdRoom(reservationRequestDto.roomId());
+        checkAvailability(reservationRequestDto.roomId(), reservationRequestDto.startTime(), reservationRequestDto.endTime(), null);
 
-        checkIdUser(reservationRequestDto.userId());
+        return roomLocks.withLock(reservationRequestDto.roomId(), () -> {
+            ReservationEntity reservation = inTransaction(status -> {
+                RoomEntity room = checkIdRoom(reservationRequestDto.roomId());
 
-        if(room.getStatus() == RoomStatus.RESERVADO) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quarto já reservado");
+                UserEntity user = checkIdUser(reservationRequestDto.userId());
 
-        if (reservationRequestDto.endTime().isBefore(reservationRequestDto.startTime())) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time deve ser posterior ao start time");
+                BigDecimal totalCost = pricingService.calculateTotalCost(room, reservationRequestDto.startTime(), reservationRequestDto.endTime());
 
-        long durationInMinutes = Duration.between(reservationRequestDto.startTime(), reservationRequestDto.endTime()).toMinutes();
+                checkOverlap(room.getId(), reservationRequestDto.startTime(), reservationRequestDto.endTime(), null);
 
-        if (durationInMinutes <= 0) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duração inválida da reserva");
+                ReservationEntity newReservation = reservationMapper.toEntity(reservationRequestDto);
+                changeRoomStatus(room, RoomStatus.RESERVADO);
+                newReservation.setRoomEntity(room);
+                newReservation.setUserEntity(user);
+                newReservation.setTotalCost(totalCost);
+                newReservation.setStatus(RoomStatus.RESERVADO);
+                ReservationEntity saved = reservationRepository.save(newReservation);
+                reservationRollups.add(saved);
+                reservationOutbox.record(ReservationEventType.RESERVATION_CREATED, saved);
+                return saved;
+            });
+            roomAvailabilityIndex.register(reservation);
+            return reservationMapper.toDto(reservation);
+        });
+    }
 
-        BigDecimal durationInHours = BigDecimal.valueOf(durationInMinutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
-        
-        BigDecimal roomPrice = room.getPrice();
-        if (roomPrice == null || roomPrice.compareTo(BigDecimal.ZERO) == 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Preço do quarto inválido");
-        }
-        
-        BigDecimal totalCost = roomPrice.multiply(durationInHours);
+    // A chave vale por usuário: clientes diferentes podem gerar a mesma chave sem colidir
+    public ReservationResponseDto create(ReservationRequestDto reservationRequestDto, String idempotencyKey, String username) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) return create(reservationRequestDto);
+        if (idempotencyKey.length() > 255) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Idempotency-Key deve ter no máximo 255 caracteres");
+        return idempotencyStore.execute(username + ":" + idempotencyKey, reservationRequestDto, () -> create(reservationRequestDto));
+    }
+
+    public ReservationBatchResponseDto createBatch(List<ReservationRequestDto> requests) {
+        Set<UUID> roomIds = requests.stream().map(ReservationRequestDto::roomId).collect(Collectors.toSet());
+
+        return roomLocks.withLocks(roomIds, () -> {
+            ReservationEntity[] created = new ReservationEntity[requests.size()];
+            ResponseStatusException[] errors = new ResponseStatusException[requests.size()];
+
+            inTransaction(status -> {
+                Map<UUID, RoomEntity> rooms = roomRepository.findAllById(roomIds).stream()
+                        .collect(Collectors.toMap(RoomEntity::getId, Function.identity()));
+                Map<UUID, UserEntity> users = userRepository.findAllById(requests.stream().map(ReservationRequestDto::userId).collect(Collectors.toSet())).stream()
+                        .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+                Map<UUID, RoomSchedule> schedules = loadSchedules(rooms.keySet(), requests);
+                Map<UUID, RoomEntity> reservedRooms = new LinkedHashMap<>();
+
+                // Nada vai ao banco dentro do laço: os inserts ficam pendentes e os totais e status são acumulados
+                for (int i = 0; i < requests.size(); i++) {
+                    ReservationRequestDto request = requests.get(i);
+                    try {
+                        RoomEntity room = rooms.get(request.roomId());
+                        if (room == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Quarto não encontrado");
+                        UserEntity user = users.get(request.userId());
+                        if (user == null) throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Usuário não encontrado");
+
+                        BigDecimal totalCost = pricingService.calculateTotalCost(room, request.startTime(), request.endTime());
+
+                        RoomSchedule schedule = schedules.get(room.getId());
+                        if (!schedule.isAvailable(request.startTime(), request.endTime(), null)) {
+                            countConflict("batch");
+                            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quarto já reservado neste horário");
+                        }
 
-        ReservationEntity reservation = reservationMapper.toEntity(reservationRequestDto);
-        reservation.setTotalCost(totalCost);
-        RoomEntity roomEntity = room;
-        roomEntity.setStatus(RoomStatus.RESERVADO);
-        roomRepository.save(roomEntity);
-        reservation.setStatus(RoomStatus.RESERVADO);
-        reservationRepository.save(reservation);
-        return  reservationMapper.toDto(reservation);
+                        ReservationEntity reservation = reservationMapper.toEntity(request);
+                        reservation.setRoomEntity(room);
+                        reservation.setUserEntity(user);
+                        reservation.setTotalCost(totalCost);
+                        reservation.setStatus(RoomStatus.RESERVADO);
+                        created[i] = reservationRepository.save(reservation);
+                        reservedRooms.putIfAbsent(room.getId(), room);
+                        schedule.add(created[i].getId(), request.startTime(), request.endTime());
+                    } catch (ResponseStatusException exception) {
+                        errors[i] = exception;
+                    }
+                }
+
+                // O upsert dos totais envia os inserts pendentes em lote (hibernate.jdbc.batch_size), uma linha por período;
+                // depois um UPDATE por sala que mudou de status e os eventos, também em lote no commit
+                List<ReservationEntity> createdReservations = Arrays.stream(created).filter(Objects::nonNull).toList();
+                reservationRollups.addAll(createdReservations);
+                reservedRooms.values().forEach(room -> changeRoomStatus(room, RoomStatus.RESERVADO));
+                reservationOutbox.recordAll(ReservationEventType.RESERVATION_CREATED, createdReservations);
+                return null;
+            });
+
+            List<ReservationBatchItemDto> results = new ArrayList<>(requests.size());
+            int createdCount = 0;
+            for (int i = 0; i < requests.size(); i++) {
+                if (created[i] != null) {
+                    roomAvailabilityIndex.register(created[i]);
+                    results.add(new ReservationBatchItemDto(i, HttpStatus.CREATED.value(), null, reservationMapper.toDto(created[i])));
+                    createdCount++;
+                } else {
+                    results.add(new ReservationBatchItemDto(i, errors[i].getStatusCode().value(), errors[i].getReason(), null));
+                }
+            }
+            return new ReservationBatchResponseDto(createdCount, requests.size() - createdCount, results);
+        });
     }
 
+    public ReservationBatchResponseDto createRecurring(ReservationRecurrenceRequestDto recurrenceRequestDto) {
+        ReservationRequestDto first = recurrenceRequestDto.reservation();
+        List<ReservationRequestDto> occurrences = new ArrayList<>(recurrenceRequestDto.occurrences());
+        for (int i = 0; i < recurrenceRequestDto.occurrences(); i++) {
+            occurrences.add(new ReservationRequestDto(
+                first.roomId(),
+                first.userId(),
+                first.startTime().plus(i, recurrenceRequestDto.frequency().getUnit()),
+                first.endTime().plus(i, recurrenceRequestDto.frequency().getUnit())
+            ));
+        }
+        return createBatch(occurrences);
+    }
+
+    @Transactional(readOnly = true)
     public Page<ReservationResponseDto> getAllReservations(Pageable pageable) {
         Page<ReservationEntity> reservations = reservationRepository.findAllEntitys(pageable);
         return reservations.map(reservationMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    public ReservationCompactPageDto getAllReservationsCompact(Pageable pageable) {
+        Page<ReservationEntity> reservations = reservationRepository.findAllEntitys(pageable);
+        PageMetadata page = new PageMetadata(reservations.getSize(), reservations.getNumber(), reservations.getTotalElements(), reservations.getTotalPages());
+        return reservationCompactMapper.toPage(reservations.getContent(), page, null);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<ReservationResponseDto> scrollReservations(String cursor, int size) {
+        return PageCursor.page(findScrollPage(cursor, size), size, reservationMapper::toDto, reservation -> new PageCursor(reservation.getCreatedAt(), reservation.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public ReservationCompactPageDto scrollReservationsCompact(String cursor, int size) {
+        CursorPageDto<ReservationEntity> page = PageCursor.page(findScrollPage(cursor, size), size, Function.identity(), reservation -> new PageCursor(reservation.getCreatedAt(), reservation.getId()));
+        return reservationCompactMapper.toPage(page.content(), null, page.nextCursor());
+    }
+
+    private List<ReservationEntity> findScrollPage(String cursor, int size) {
+        if (cursor == null || cursor.isBlank()) return reservationRepository.findFirstPage(PageCursor.limitFor(size));
+        PageCursor position = PageCursor.decode(cursor);
+        return reservationRepository.findPageAfter(position.createdAt(), position.id(), PageCursor.limitFor(size));
+    }
+
+    @Transactional(readOnly = true)
     public ReservationResponseDto getByid(UUID id) {
         Optional<ReservationEntity> reservation = reservationRepository.findById(id);
         if(reservation.isEmpty()) throw  new ResponseStatusException(HttpStatus.NOT_FOUND,"Nenhuma reserva encontrada");
         return  reservationMapper.toDto(reservation.get());
     }
 
+    public UUID getRoomId(UUID id) {
+        return reservationRepository.findRoomIdById(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"Nenhuma reserva encontrada"));
+    }
+
     public ReservationResponseDto update(UUID id, ReservationRequestDto reservationRequestDto) {
-        ReservationEntity reservation = checkIdReservation(id);
-    
-        if (reservationRequestDto.endTime().isBefore(reservationRequestDto.startTime())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "End time deve ser posterior ao start time");
-        }
-    
-        RoomEntity newRoom = checkIdRoom(reservationRequestDto.roomId());
-        checkIdUser(reservation.getUserEntity().getId());
+        checkAvailability(reservationRequestDto.roomId(), reservationRequestDto.startTime(), reservationRequestDto.endTime(), id);
 
-        RoomEntity currentRoom = reservation.getRoomEntity();
-    
-        if (!currentRoom.getId().equals(reservationRequestDto.roomId())) {
-            currentRoom.setStatus(RoomStatus.DISPONIVEL);
-            roomRepository.save(currentRoom);
-            RoomEntity newRoomEntity = newRoom;
-    
-            if (newRoomEntity.getStatus() == RoomStatus.RESERVADO) {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O quarto já está reservado");
-            }
-    
-            newRoomEntity.setStatus(RoomStatus.RESERVADO);
-            roomRepository.save(newRoomEntity);
-        }
-    
-        long durationInMinutes = Duration.between(reservationRequestDto.startTime(), reservationRequestDto.endTime()).toMinutes();
-        if (durationInMinutes <= 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Duração inválida da reserva");
-        }
-    
-        BigDecimal durationInHours = BigDecimal.valueOf(durationInMinutes).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP);
-    
-        BigDecimal roomPrice = newRoom.getPrice();
-        if (roomPrice == null || roomPrice.compareTo(BigDecimal.ZERO) == 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Preço do quarto inválido");
+        // A sala atual só vale depois de travada: se outra atualização moveu a reserva antes, trava a nova sala e repete
+        while (true) {
+            UUID lockedRoomId = getRoomId(id);
+            ReservationResponseDto response = roomLocks.withLocks(List.of(lockedRoomId, reservationRequestDto.roomId()), () -> {
+                LocalDateTime[] previousStartTime = new LocalDateTime[1];
+                ReservationEntity saved = inTransaction(status -> {
+                    ReservationEntity reservation = lockReservation(id);
+                    RoomEntity currentRoom = reservation.getRoomEntity();
+                    if (!currentRoom.getId().equals(lockedRoomId)) return null;
+                    previousStartTime[0] = reservation.getStartTime();
+
+                    RoomEntity newRoom = checkIdRoom(reservationRequestDto.roomId());
+                    UserEntity user = checkIdUser(reservationRequestDto.userId());
+
+                    BigDecimal totalCost = pricingService.calculateTotalCost(newRoom, reservationRequestDto.startTime(), reservationRequestDto.endTime());
+
+                    checkOverlap(newRoom.getId(), reservationRequestDto.startTime(), reservationRequestDto.endTime(), id);
+
+                    reservationRollups.remove(reservation);
+                    reservation.setRoomEntity(newRoom);
+                    reservation.setUserEntity(user);
+                    reservation.setStartTime(reservationRequestDto.startTime());
+                    reservation.setEndTime(reservationRequestDto.endTime());
+                    reservation.setStatus(RoomStatus.RESERVADO);
+                    reservation.setTotalCost(totalCost);
+                    ReservationEntity updated = reservationRepository.save(reservation);
+                    reservationRollups.add(updated);
+                    reservationOutbox.record(ReservationEventType.RESERVATION_UPDATED, updated);
+
+                    if (!currentRoom.getId().equals(newRoom.getId())) {
+                        releaseRoomIfIdle(currentRoom);
+                        changeRoomStatus(newRoom, RoomStatus.RESERVADO);
+                    }
+                    return updated;
+                });
+                if (saved == null) return null;
+
+                roomAvailabilityIndex.unregister(lockedRoomId, id, previousStartTime[0]);
+                roomAvailabilityIndex.register(saved);
+                return reservationMapper.toDto(saved);
+            });
+            if (response != null) return response;
         }
-    
-        BigDecimal totalCost = roomPrice.multiply(durationInHours);
-    
-        ReservationEntity reservationEntity = reservationMapper.toEntity(reservationRequestDto);
-        reservationEntity.setId(id);
-        reservationEntity.setStatus(RoomStatus.RESERVADO);
-        reservationEntity.setTotalCost(totalCost);
-    
-        return reservationMapper.toDto(reservationRepository.save(reservationEntity));
     }
     
 
     public ReservationResponseDto delete(UUID id) {
-       ReservationEntity reservation = checkIdReservation(id);
+        // Mesma revalidação do update: a reserva pode ter mudado de sala antes da trava
+        while (true) {
+            UUID lockedRoomId = getRoomId(id);
+            ReservationResponseDto response = roomLocks.withLock(lockedRoomId, () -> {
+                ReservationEntity reservation = transactionTemplate.execute(status -> {
+                    ReservationEntity deleted = lockReservation(id);
+                    if (!deleted.getRoomEntity().getId().equals(lockedRoomId)) return null;
 
-        checkIdUser(reservation.getUserEntity().getId());
+                    checkIdUser(deleted.getUserEntity().getId());
 
-        RoomEntity room = checkIdRoom(reservation.getRoomEntity().getId());
-        
-        RoomEntity roomEntity = room;
-        roomEntity.setStatus(RoomStatus.DISPONIVEL);
-        roomRepository.save(roomEntity);
-        reservationRepository.delete(reservation);
-        return  reservationMapper.toDto(reservation);
+                    reservationRollups.remove(deleted);
+                    reservationRepository.delete(deleted);
+                    reservationOutbox.record(ReservationEventType.RESERVATION_DELETED, deleted);
+                    releaseRoomIfIdle(deleted.getRoomEntity());
+                    return deleted;
+                });
+                if (reservation == null) return null;
+
+                roomAvailabilityIndex.unregister(lockedRoomId, id, reservation.getStartTime());
+                return reservationMapper.toDto(reservation);
+            });
+            if (response != null) return response;
+        }
     }
 
     public ReservationEntity checkIdReservation(UUID id) {
@@ -144,6 +317,10 @@ public class ReservationService {
         return reservation.get();
     }
 
+    private ReservationEntity lockReservation(UUID id) {
+        return reservationRepository.findByIdForUpdate(id).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,"Reserva não encontrada"));
+    }
+
     public RoomEntity checkIdRoom(UUID id) {
         Optional<RoomEntity> room = roomRepository.findById(id);
         if(room.isEmpty()) throw new ResponseStatusException(HttpStatus.NOT_FOUND,"Quarto não encontrado");
@@ -155,4 +332,85 @@ public class ReservationService {
         if(user.isEmpty()) throw new ResponseStatusException(HttpStatus.NOT_FOUND,"Usuário não encontrado");
         return user.get();
     }
+
+    // Uma única consulta traz as reservas existentes no intervalo coberto pelo lote
+    private Map<UUID, RoomSchedule> loadSchedules(Set<UUID> roomIds, List<ReservationRequestDto> requests) {
+        Map<UUID, RoomSchedule> schedules = new HashMap<>();
+        roomIds.forEach(roomId -> schedules.put(roomId, new RoomSchedule()));
+        if (roomIds.isEmpty()) return schedules;
+
+        LocalDateTime from = requests.stream().map(ReservationRequestDto::startTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = requests.stream().map(ReservationRequestDto::endTime).max(Comparator.naturalOrder()).orElseThrow();
+        reservationRepository.findSlotsBetween(roomIds, from, to)
+                .forEach(slot -> schedules.get(slot.roomId()).add(slot.id(), slot.startTime(), slot.endTime()));
+        return schedules;
+    }
+
+    // Pré-checagem em memória: horário livre no índice segue sem consulta extra. Um conflito no índice pode ser
+    // uma reserva já removida por outra réplica, então é confirmado no banco antes de recusar
+    private void checkAvailability(UUID roomId, LocalDateTime startTime, LocalDateTime endTime, UUID ignoredReservationId) {
+        if (roomAvailabilityIndex.isAvailable(roomId, startTime, endTime, ignoredReservationId)) return;
+        if (reservationRepository.existsOverlap(roomId, startTime, endTime, ignoredReservationId)) {
+            countConflict("index");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quarto já reservado neste horário");
+        }
+        roomAvailabilityIndex.reload(roomId);
+    }
+
+    // Consulta por intervalo no banco (cobre reservas feitas por outras instâncias), sem travar a sala
+    private void checkOverlap(UUID roomId, LocalDateTime startTime, LocalDateTime endTime, UUID ignoredReservationId) {
+        if (reservationRepository.existsOverlap(roomId, startTime, endTime, ignoredReservationId)) {
+            countConflict("database");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quarto já reservado neste horário");
+        }
+    }
+
+    // Duas transações que passaram pela checagem ao mesmo tempo: a restrição reservation_no_overlap recusa a segunda no insert
+    private <T> T inTransaction(TransactionCallback<T> action) {
+        try {
+            return transactionTemplate.execute(action);
+        } catch (DataIntegrityViolationException exception) {
+            if (!isOverlapViolation(exception)) throw exception;
+            countConflict("constraint");
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Quarto já reservado neste horário");
+        }
+    }
+
+    private static boolean isOverlapViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) return true;
+        }
+        return false;
+    }
+
+    // stage: onde o conflito foi detectado (índice em memória, banco, lote ou restrição de exclusão)
+    private void countConflict(String stage) {
+        meterRegistry.counter("reservation.conflicts", "stage", stage).increment();
+    }
+
+    private void releaseRoomIfIdle(RoomEntity room) {
+        if (room.getStatus() == RoomStatus.DISPONIVEL || reservationRepository.existsByRoomEntityId(room.getId())) return;
+        if (roomRepository.updateStatusIfIdle(room.getId(), RoomStatus.DISPONIVEL) == 0) return;
+        roomStatusChanged(room, RoomStatus.DISPONIVEL);
+    }
+
+    // UPDATE condicional em vez de ler, alterar e salvar a sala: só grava na transição de status
+    private void changeRoomStatus(RoomEntity room, RoomStatus status) {
+        if (room.getStatus() == status) return;
+        if (roomRepository.updateStatus(room.getId(), status) == 0) return;
+        roomStatusChanged(room, status);
+    }
+
+    // O status aparece nas buscas de salas em cache e em GET /room/stream, atualizados quando a transação confirmar.
+    // O UPDATE limpou o contexto de persistência, então alterar o objeto não gera outra escrita
+    private void roomStatusChanged(RoomEntity room, RoomStatus status) {
+        room.setStatus(status);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                roomService.evictSearchCache();
+            }
+        });
+        roomStatusBroadcaster.publishAfterCommit(room);
+    }
 }
@@ -0,0 +1,119 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.danielfreitassc.backend.dtos.ReservationSlotDto;
+import com.danielfreitassc.backend.dtos.RoomAvailabilityCheckDto;
+import com.danielfreitassc.backend.infra.cluster.RoomPartitioner;
+import com.danielfreitassc.backend.infra.cluster.RoomRequestRouter;
+import com.danielfreitassc.backend.models.ReservationEntity;
+import com.danielfreitassc.backend.repositories.ReservationRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Agendas em memória das reservas que ainda não terminaram, atualizadas só pelas escritas feitas nesta instância.
+ * Reservas criadas ou removidas por outras réplicas não aparecem aqui, então o índice é só um indício:
+ * o banco confirma o conflito antes de recusar, e a agenda da sala é recarregada quando os dois discordam.
+ * Em cluster guarda só as salas deste nó; para as demais isAvailable responde true e a checagem fica com o banco.
+ * GET /room/availability junta os bitmaps de todos os donos (findFree) e confirma no banco só as salas dadas como livres.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomAvailabilityIndex {
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RoomPartitioner roomPartitioner;
+    private final RoomRequestRouter roomRequestRouter;
+
+    private final Map<UUID, RoomSchedule> schedules = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<ReservationSlotDto> slots = reservationRepository.streamSlotsEndingAfter(LocalDateTime.now())) {
+                slots.filter(slot -> roomPartitioner.isLocal(slot.roomId()))
+                        .forEach(slot -> scheduleOf(slot.roomId()).add(slot.id(), slot.startTime(), slot.endTime()));
+            }
+        });
+    }
+
+    public boolean isAvailable(UUID roomId, LocalDateTime startTime, LocalDateTime endTime, UUID ignoredReservationId) {
+        RoomSchedule schedule = schedules.get(roomId);
+        return schedule == null || schedule.isAvailable(startTime, endTime, ignoredReservationId);
+    }
+
+    // Salas livres segundo os bitmaps dos donos: as deste nó são vistas aqui, as outras perguntadas ao dono de cada uma
+    public Set<UUID> findFree(List<UUID> roomIds, LocalDateTime startTime, LocalDateTime endTime) {
+        Set<UUID> free = new HashSet<>();
+        Map<String, List<UUID>> remote = new LinkedHashMap<>();
+        for (UUID roomId : roomIds) {
+            String ownerUrl = roomPartitioner.ownerUrl(roomId);
+            if (ownerUrl == null) {
+                if (isAvailable(roomId, startTime, endTime, null)) free.add(roomId);
+            } else {
+                remote.computeIfAbsent(ownerUrl, url -> new ArrayList<>()).add(roomId);
+            }
+        }
+        remote.forEach((ownerUrl, ids) -> free.addAll(roomRequestRouter.findFree(ownerUrl, new RoomAvailabilityCheckDto(startTime, endTime, ids))));
+        return free;
+    }
+
+    // Resposta a outro nó: só as salas deste nó são conferidas no bitmap, as demais voltam como livres
+    public List<UUID> findLocallyFree(List<UUID> roomIds, LocalDateTime startTime, LocalDateTime endTime) {
+        return roomIds.stream().filter(roomId -> isAvailable(roomId, startTime, endTime, null)).toList();
+    }
+
+    public void register(ReservationEntity reservation) {
+        if (!roomPartitioner.isLocal(reservation.getRoomEntity().getId())) return;
+        scheduleOf(reservation.getRoomEntity().getId()).add(reservation.getId(), reservation.getStartTime(), reservation.getEndTime());
+    }
+
+    // Sala de outro nó (reserva movida para uma sala deste nó): o dono relê a agenda dela do banco
+    public void unregister(UUID roomId, UUID reservationId, LocalDateTime startTime) {
+        String ownerUrl = roomPartitioner.ownerUrl(roomId);
+        if (ownerUrl != null) {
+            roomRequestRouter.reload(ownerUrl, roomId);
+            return;
+        }
+        RoomSchedule schedule = schedules.get(roomId);
+        if (schedule != null) schedule.remove(reservationId, startTime);
+    }
+
+    // Sem a limpeza, dias passados ficariam no bitmap enquanto o processo estiver de pé
+    @Scheduled(fixedDelayString = "${api.availability.prune-interval:PT1H}")
+    public void removeEnded() {
+        LocalDateTime now = LocalDateTime.now();
+        schedules.forEach((roomId, schedule) -> {
+            schedule.removeEndedBefore(now);
+            if (schedule.isEmpty()) schedules.remove(roomId, schedule);
+        });
+    }
+
+    // Troca a agenda da sala pela lida do banco
+    public void reload(UUID roomId) {
+        if (!roomPartitioner.isLocal(roomId)) return;
+        RoomSchedule schedule = new RoomSchedule();
+        reservationRepository.findSlotsEndingAfter(roomId, LocalDateTime.now())
+                .forEach(slot -> schedule.add(slot.id(), slot.startTime(), slot.endTime()));
+        schedules.put(roomId, schedule);
+    }
+
+    private RoomSchedule scheduleOf(UUID roomId) {
+        return schedules.computeIfAbsent(roomId, id -> new RoomSchedule());
+    }
+}
@@ -0,0 +1,62 @@
+package com.danielfreitassc.backend.services;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Locks por sala distribuídos em faixas fixas: reservas da mesma sala são
+ * serializadas dentro do processo, enquanto salas diferentes raramente
+ * disputam o mesmo lock.
+ */
+@Component
+public class RoomLocks {
+    @Value("${reservation.locks.stripes:1024}")
+    private int stripeCount;
+
+    private ReentrantLock[] stripes;
+
+    @PostConstruct
+    public void init() {
+        stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(UUID roomId, Supplier<T> action) {
+        ReentrantLock lock = stripes[stripeOf(roomId)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // As faixas são adquiridas sempre em ordem crescente para evitar deadlock
+    public <T> T withLocks(Collection<UUID> roomIds, Supplier<T> action) {
+        int[] indexes = roomIds.stream().mapToInt(this::stripeOf).distinct().sorted().toArray();
+        for (int i = 0; i < indexes.length; i++) {
+            stripes[indexes[i]].lock();
+        }
+        try {
+            return action.get();
+        } finally {
+            for (int i = indexes.length - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripeOf(UUID roomId) {
+        int hash = roomId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
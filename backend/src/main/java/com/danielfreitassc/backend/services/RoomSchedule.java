@@ -0,0 +1,98 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Agenda de uma sala: intervalos [início, fim) ordenados pelo início.
+ * Os intervalos nunca se sobrepõem, então a busca por conflito é O(log n).
+ * O {@link OccupancyBitmap} responde antes, sem percorrer a árvore, quando o período está vazio.
+ */
+public class RoomSchedule {
+    public record Slot(UUID reservationId, LocalDateTime startTime, LocalDateTime endTime) {}
+
+    private final TreeMap<LocalDateTime, Slot> slots = new TreeMap<>();
+    private final OccupancyBitmap occupancy = new OccupancyBitmap();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public boolean isAvailable(LocalDateTime startTime, LocalDateTime endTime, UUID ignoredReservationId) {
+        lock.readLock().lock();
+        try {
+            if (occupancy.isClear(startTime, endTime)) return true;
+            for (Slot slot : slots.headMap(endTime, false).descendingMap().values()) {
+                if (!slot.endTime().isAfter(startTime)) return true;
+                if (!slot.reservationId().equals(ignoredReservationId)) return false;
+            }
+            return true;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(UUID reservationId, LocalDateTime startTime, LocalDateTime endTime) {
+        lock.writeLock().lock();
+        try {
+            slots.put(startTime, new Slot(reservationId, startTime, endTime));
+            occupancy.mark(startTime, endTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID reservationId, LocalDateTime startTime) {
+        lock.writeLock().lock();
+        try {
+            Slot slot = slots.get(startTime);
+            if (slot != null && slot.reservationId().equals(reservationId)) {
+                slots.remove(startTime);
+                rebuildOccupancy(slot.startTime(), slot.endTime());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Descarta as reservas já terminadas e os dias anteriores a now no bitmap
+    public void removeEndedBefore(LocalDateTime now) {
+        lock.writeLock().lock();
+        try {
+            slots.headMap(now, false).values().removeIf(slot -> !slot.endTime().isAfter(now));
+            occupancy.clearBefore(now.toLocalDate());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Uma faixa de 15 minutos pode ser compartilhada por reservas vizinhas, então os dias afetados são remarcados
+    private void rebuildOccupancy(LocalDateTime startTime, LocalDateTime endTime) {
+        for (LocalDate day = startTime.toLocalDate(); day.atStartOfDay().isBefore(endTime); day = day.plusDays(1)) {
+            LocalDateTime dayStart = day.atStartOfDay();
+            LocalDateTime dayEnd = dayStart.plusDays(1);
+            occupancy.clear(day);
+            for (Slot slot : slots.headMap(dayEnd, false).descendingMap().values()) {
+                if (!slot.endTime().isAfter(dayStart)) break;
+                occupancy.mark(max(slot.startTime(), dayStart), min(slot.endTime(), dayEnd));
+            }
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    public boolean isEmpty() {
+        lock.readLock().lock();
+        try {
+            return slots.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -1,59 +1,139 @@
 package com.danielfreitassc.backend.services;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.danielfreitassc.backend.dtos.CursorPageDto;
+import com.danielfreitassc.backend.dtos.RoomAvailabilityCheckDto;
 import com.danielfreitassc.backend.dtos.RoomRequestDto;
 import com.danielfreitassc.backend.dtos.RoomResponseDto;
+import com.danielfreitassc.backend.infra.pagination.PageCursor;
 import com.danielfreitassc.backend.mappers.RoomMapper;
 import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.danielfreitassc.backend.repositories.ReservationRepository;
 import com.danielfreitassc.backend.repositories.RoomRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "room.service", histogram = true)
 @RequiredArgsConstructor
 public class RoomService {
     private final RoomRepository roomRepository;
     private final RoomMapper roomMapper;
+    private final RoomStatusBroadcaster roomStatusBroadcaster;
+    private final RoomAvailabilityIndex roomAvailabilityIndex;
+    private final ReservationRepository reservationRepository;
 
+    public static final String SEARCH_CACHE = "roomSearch";
+    private static final Duration MAX_AVAILABILITY_WINDOW = Duration.ofDays(31);
+    private static final int BOOKED_CHUNK_SIZE = 1000;
 
+
+    @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
     public RoomResponseDto create(RoomRequestDto roomRequestDto) {
         return roomMapper.toDto(roomRepository.save(roomMapper.toEntity(roomRequestDto)));
     }
 
-    public Page<RoomResponseDto> getAll(Pageable pageable,String search) {
-        Page<RoomEntity> rooms = roomRepository.findAll(pageable, search);
+    @Cacheable(cacheNames = SEARCH_CACHE)
+    @Transactional(readOnly = true)
+    public Page<RoomResponseDto> getAll(Pageable pageable,String search, boolean fuzzy) {
+        Page<RoomEntity> rooms = fuzzy ? roomRepository.searchFuzzy(pageable, search) : roomRepository.findAll(pageable, search);
         return  rooms.map(roomMapper::toDto);
     }
 
+    @Cacheable(cacheNames = SEARCH_CACHE)
+    @Transactional(readOnly = true)
+    public CursorPageDto<RoomResponseDto> scroll(String search, String cursor, int size) {
+        List<RoomEntity> rooms;
+        if (cursor == null || cursor.isBlank()) {
+            rooms = roomRepository.findFirstPage(search, PageCursor.limitFor(size));
+        } else {
+            PageCursor position = PageCursor.decode(cursor);
+            rooms = roomRepository.findPageAfter(search, position.createdAt(), position.id(), PageCursor.limitFor(size));
+        }
+        return PageCursor.page(rooms, size, roomMapper::toDto, room -> new PageCursor(room.getCreatedAt(), room.getId()));
+    }
+
+    // Sem transação: a conexão não fica presa enquanto os outros nós respondem.
+    // Os bitmaps dos donos descartam as salas ocupadas e o banco confirma só as que eles deram como livres
+    public List<RoomResponseDto> getAvailable(LocalDateTime from, LocalDateTime to, int capacity, String location) {
+        if (!from.isBefore(to)) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A data final deve ser posterior à data inicial");
+        if (Duration.between(from, to).compareTo(MAX_AVAILABILITY_WINDOW) > 0) throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "O período consultado não pode passar de 31 dias");
+
+        List<RoomEntity> candidates = roomRepository.findAvailabilityCandidates(capacity, location);
+        Set<UUID> free = roomAvailabilityIndex.findFree(candidates.stream().map(RoomEntity::getId).toList(), from, to);
+        Set<UUID> booked = findBooked(List.copyOf(free), from, to);
+        return candidates.stream()
+                .filter(room -> free.contains(room.getId()) && !booked.contains(room.getId()))
+                .map(roomMapper::toDto)
+                .toList();
+    }
+
+    public List<UUID> getLocallyFree(RoomAvailabilityCheckDto check) {
+        return roomAvailabilityIndex.findLocallyFree(check.roomIds(), check.from(), check.to());
+    }
+
+    public void reloadAvailability(UUID id) {
+        roomAvailabilityIndex.reload(id);
+    }
+
+    @Transactional(readOnly = true)
     public RoomResponseDto getById(UUID id) {
         RoomEntity room = checkId(id);
         return  roomMapper.toDto(room);
     }
 
+    @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
     public RoomResponseDto update(UUID id, RoomRequestDto roomRequestDto) {
-        checkId(id);
+        RoomStatus previousStatus = checkId(id).getStatus();
         RoomEntity roomEntity = roomMapper.toEntity(roomRequestDto);
         roomEntity.setId(id);
-        return roomMapper.toDto(roomRepository.save(roomEntity));
+        RoomEntity saved = roomRepository.save(roomEntity);
+        if (saved.getStatus() != previousStatus) roomStatusBroadcaster.publishAfterCommit(saved);
+        return roomMapper.toDto(saved);
     }
 
+    @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
     public RoomResponseDto delete(UUID id) {
         RoomEntity room = checkId(id);
         roomRepository.delete(room);
         return roomMapper.toDto(room);
     }
 
+    // Chamado pelo ReservationService quando uma reserva muda o status de uma sala
+    @CacheEvict(cacheNames = SEARCH_CACHE, allEntries = true)
+    public void evictSearchCache() {
+    }
+
     public RoomEntity checkId(UUID id) {
         Optional<RoomEntity> room = roomRepository.findById(id);
         if(room.isEmpty()) throw new ResponseStatusException(HttpStatus.NOT_FOUND,"Nenhuma sala com este id");
         return room.get();
     }
+
+    // Em blocos para não passar do limite de parâmetros do IN
+    private Set<UUID> findBooked(List<UUID> roomIds, LocalDateTime from, LocalDateTime to) {
+        Set<UUID> booked = new HashSet<>();
+        for (int start = 0; start < roomIds.size(); start += BOOKED_CHUNK_SIZE) {
+            booked.addAll(reservationRepository.findRoomIdsBookedBetween(roomIds.subList(start, Math.min(start + BOOKED_CHUNK_SIZE, roomIds.size())), from, to));
+        }
+        return booked;
+    }
 }
@@ -0,0 +1,211 @@
+package com.danielfreitassc.backend.services;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.danielfreitassc.backend.dtos.RoomStatusEventDto;
+import com.danielfreitassc.backend.infra.cluster.RoomStatusChannel;
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Envia as mudanças de status das salas para os clientes de GET /room/stream.
+ * Os eventos chegam de todas as réplicas pelo RoomStatusChannel. Cada evento vira um único quadro SSE, colocado na fila
+ * de cada inscrito do local do evento e dos inscritos sem local (chave vazia = todos os locais).
+ * Cada inscrito tem uma fila limitada, esvaziada por uma thread própria enquanto houver quadros; quem não acompanha
+ * e enche a fila é desconectado sem atrasar os outros, e ao reconectar busca GET /room de novo.
+ */
+@Component
+public class RoomStatusBroadcaster {
+    private static final String ALL_LOCATIONS = "";
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("ping").build();
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<Subscriber> group;
+        private final BlockingQueue<Set<DataWithMediaType>> frames = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Set<Subscriber> group) {
+            this.emitter = emitter;
+            this.group = group;
+        }
+
+        // Não bloqueia quem publica
+        private void offer(Set<DataWithMediaType> frame) {
+            if (closed) return;
+            if (!frames.offer(frame)) {
+                dropped.increment();
+                close();
+            }
+            if (draining.compareAndSet(false, true)) writers.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                // complete() espera o send em andamento, por isso só a thread que escreve encerra o stream
+                if (closed) {
+                    emitter.complete();
+                    return;
+                }
+                Set<DataWithMediaType> frame = frames.poll();
+                if (frame == null) {
+                    draining.set(false);
+                    // Um quadro pode ter chegado entre o poll e o set
+                    if ((frames.isEmpty() && !closed) || !draining.compareAndSet(false, true)) return;
+                    continue;
+                }
+                try {
+                    emitter.send(frame);
+                } catch (IOException | IllegalStateException exception) {
+                    // Cliente desconectado; o container encerra a requisição assíncrona
+                    closed = true;
+                    group.remove(this);
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            closed = true;
+            group.remove(this);
+            frames.clear();
+        }
+    }
+
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final RoomStatusChannel roomStatusChannel;
+    private final ObjectWriter jsonWriter;
+    private final ObjectReader jsonReader;
+    private final int queueCapacity;
+    private final Counter dropped;
+    // Mantém a mesma ordem de eventos em todas as filas
+    private final Lock dispatchLock = new ReentrantLock();
+    private long sequence;
+    // Threads de plataforma: SseEmitter.send é synchronized e, bloqueado num cliente lento, prenderia o carrier de uma virtual thread
+    private final ExecutorService writers = Executors.newCachedThreadPool(Thread.ofPlatform().name("room-stream-", 0).daemon(true).factory());
+
+    public RoomStatusBroadcaster(
+            RoomStatusChannel roomStatusChannel,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${api.room-stream.queue-capacity:1000}") int queueCapacity) {
+        this.roomStatusChannel = roomStatusChannel;
+        this.jsonWriter = objectMapper.writerFor(RoomStatusEventDto.class);
+        this.jsonReader = objectMapper.readerFor(RoomStatusEventDto.class);
+        this.queueCapacity = queueCapacity;
+        this.dropped = meterRegistry.counter("room.stream.dropped");
+        Gauge.builder("room.stream.subscribers", this, RoomStatusBroadcaster::getSubscriberCount).register(meterRegistry);
+        roomStatusChannel.listen(this::dispatch);
+    }
+
+    public SseEmitter subscribe(String location) {
+        return subscribe(location, new SseEmitter());
+    }
+
+    SseEmitter subscribe(String location, SseEmitter emitter) {
+        Set<Subscriber> group = subscribers.computeIfAbsent(normalize(location), ignored -> ConcurrentHashMap.newKeySet());
+        Subscriber subscriber = new Subscriber(emitter, group);
+        group.add(subscriber);
+
+        Runnable remove = subscriber::close;
+        emitter.onCompletion(remove);
+        // Fim normal do stream no timeout; o cliente reconecta
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove.run());
+        return emitter;
+    }
+
+    // Dentro de uma transação o evento só sai depois do commit; um rollback descarta o evento
+    public void publishAfterCommit(RoomEntity room) {
+        publish(new RoomStatusEventDto(room.getId(), room.getName(), room.getRoomNumber(), room.getLocation(), room.getStatus(), LocalDateTime.now()));
+    }
+
+    public void publish(RoomStatusEventDto event) {
+        roomStatusChannel.send(toJson(event));
+    }
+
+    // Mantém a conexão aberta em proxies e descobre clientes que já desconectaram
+    @Scheduled(fixedDelayString = "${api.room-stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        subscribers.values().forEach(group -> group.forEach(subscriber -> subscriber.offer(HEARTBEAT)));
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+        subscribers.values().forEach(group -> group.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private void dispatch(String json) {
+        String location = normalize(readLocation(json));
+        dispatchLock.lock();
+        try {
+            Set<DataWithMediaType> frame = SseEmitter.event()
+                    .id(String.valueOf(++sequence))
+                    .name("room-status")
+                    .data(json, MediaType.APPLICATION_JSON)
+                    .build();
+            offer(subscribers.get(ALL_LOCATIONS), frame);
+            if (!location.equals(ALL_LOCATIONS)) offer(subscribers.get(location), frame);
+        } finally {
+            dispatchLock.unlock();
+        }
+    }
+
+    private static void offer(Set<Subscriber> group, Set<DataWithMediaType> frame) {
+        if (group == null) return;
+        group.forEach(subscriber -> subscriber.offer(frame));
+    }
+
+    private String readLocation(String json) {
+        try {
+            return jsonReader.<RoomStatusEventDto>readValue(json).location();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String toJson(RoomStatusEventDto event) {
+        try {
+            return jsonWriter.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static String normalize(String location) {
+        return location == null ? ALL_LOCATIONS : location.trim().toUpperCase(Locale.ROOT);
+    }
+}
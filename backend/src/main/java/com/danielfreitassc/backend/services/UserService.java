@@ -7,38 +7,46 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.danielfreitassc.backend.dtos.UserRequestDto;
 import com.danielfreitassc.backend.dtos.UserResponseDto;
+import com.danielfreitassc.backend.infra.security.TokenAuthenticationCache;
 import com.danielfreitassc.backend.mappers.UserMapper;
 import com.danielfreitassc.backend.models.UserEntity;
 import com.danielfreitassc.backend.repositories.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 @Service
+@Timed(value = "user.service", histogram = true)
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+    private final PasswordEncoder passwordEncoder;
 
     public UserResponseDto create(UserRequestDto userRequestDto) {
         if(userRepository.findByUsername(userRequestDto.username()) != null) throw new ResponseStatusException(HttpStatus.BAD_REQUEST,"Usuário já cadatrado");
-        String encryptedPassword =  new BCryptPasswordEncoder().encode(userRequestDto.password());
+        String encryptedPassword =  passwordEncoder.encode(userRequestDto.password());
         UserEntity userEntity = userRepository.save(userMapper.toEntity(userRequestDto));
         userEntity.setPassword(encryptedPassword);
         return userMapper.toDto(userRepository.save(userEntity));
         
     }
 
-    public Page<UserResponseDto> getAllUsers(Pageable pageable, String search) {
-        Page<UserEntity> users = userRepository.findAll(pageable, search);
+    @Transactional(readOnly = true)
+    public Page<UserResponseDto> getAllUsers(Pageable pageable, String search, boolean fuzzy) {
+        Page<UserEntity> users = fuzzy ? userRepository.searchFuzzy(pageable, search) : userRepository.findAll(pageable, search);
         return users.map(userMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
     public UserResponseDto getUserById(UUID id) {
         UserEntity user = checkId(id);
         return userMapper.toDto(user);
@@ -46,6 +54,7 @@ public class UserService {
 
     public UserResponseDto patchUser(UUID id,  UserRequestDto userRequestDto) {
         UserEntity user = checkId(id);
+        String previousUsername = user.getUsername();
         
         UserEntity userEntity = user;
         
@@ -62,16 +71,19 @@ public class UserService {
             userEntity.setLastName(userRequestDto.lastName());
         }
         if (userRequestDto.password() != null && !userRequestDto.password().isBlank()) {
-            String encryptedPassword = new BCryptPasswordEncoder().encode(userRequestDto.password());
+            String encryptedPassword = passwordEncoder.encode(userRequestDto.password());
             userEntity.setPassword(encryptedPassword);
         }
        
-        return userMapper.toDto(userRepository.save(userEntity));
+        UserEntity saved = userRepository.save(userEntity);
+        tokenAuthenticationCache.evictUser(previousUsername);
+        return userMapper.toDto(saved);
     }
 
     public UserResponseDto delete(UUID id) {
         UserEntity user = checkId(id);
         userRepository.delete(user);
+        tokenAuthenticationCache.evictUser(user.getUsername());
         return userMapper.toDto(user);
     }
 
@@ -0,0 +1,79 @@
+-- Esquema inicial. Usa IF NOT EXISTS porque bancos já criados pelo Hibernate (ddl-auto=create)
+-- passam por esta migração (baseline-on-migrate) e ganham só os índices que faltam.
+
+CREATE TABLE IF NOT EXISTS rooms (
+    id          uuid          NOT NULL,
+    name        varchar(255),
+    room_number varchar(255),
+    location    varchar(255),
+    capacity    integer       NOT NULL,
+    price       numeric(38,2),
+    status      smallint      CHECK (status BETWEEN 0 AND 2),
+    created_at  timestamp(6),
+    CONSTRAINT rooms_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id                 uuid         NOT NULL,
+    name               varchar(255),
+    username           varchar(255),
+    last_name          varchar(255),
+    created_at         timestamp(6),
+    password           varchar(100),
+    role               smallint     CHECK (role BETWEEN 0 AND 1),
+    login_attempts     integer      NOT NULL DEFAULT 0,
+    lockout_expiration timestamp(6),
+    CONSTRAINT users_pkey PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS reservation (
+    id         uuid          NOT NULL,
+    room_id    uuid,
+    user_id    uuid,
+    start_time timestamp(6),
+    end_time   timestamp(6),
+    status     smallint      CHECK (status BETWEEN 0 AND 2),
+    total_cost numeric(38,2),
+    created_at timestamp(6),
+    CONSTRAINT reservation_pkey PRIMARY KEY (id),
+    CONSTRAINT fk_reservation_room FOREIGN KEY (room_id) REFERENCES rooms (id),
+    CONSTRAINT fk_reservation_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              bigint       NOT NULL,
+    type            varchar(40)  NOT NULL CHECK (type IN ('RESERVATION_CREATED', 'RESERVATION_UPDATED', 'RESERVATION_DELETED')),
+    room_id         uuid         NOT NULL,
+    reservation_id  uuid         NOT NULL,
+    payload         text         NOT NULL,
+    occurred_at     timestamp(6) NOT NULL,
+    next_attempt_at timestamp(6) NOT NULL,
+    attempts        integer      NOT NULL,
+    last_error      varchar(500),
+    CONSTRAINT outbox_events_pkey PRIMARY KEY (id)
+);
+
+-- findByUsername (login e validação de token)
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username ON users (username);
+CREATE INDEX IF NOT EXISTS idx_users_created_at ON users (created_at DESC);
+
+-- Paginação por cursor
+CREATE INDEX IF NOT EXISTS idx_rooms_created_at_id ON rooms (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_reservation_created_at_id ON reservation (created_at DESC, id DESC);
+
+-- Conflito de horário e ocupação por sala: room_id = ? AND start_time < ? AND end_time > ?
+CREATE INDEX IF NOT EXISTS idx_reservation_room_time ON reservation (room_id, start_time, end_time);
+CREATE INDEX IF NOT EXISTS idx_reservation_user_id ON reservation (user_id);
+-- Exportação ordenada pelo início
+CREATE INDEX IF NOT EXISTS idx_reservation_start_time_id ON reservation (start_time, id);
+
+-- Publicação do outbox
+CREATE INDEX IF NOT EXISTS idx_outbox_events_next_attempt_at ON outbox_events (next_attempt_at, id);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_room_id ON outbox_events (room_id, id);
+
+-- Busca por nome (LIKE '%termo%' e busca aproximada)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_rooms_name_trgm ON rooms USING gin (UPPER(name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (UPPER(name) gin_trgm_ops);
@@ -0,0 +1,46 @@
+-- Totais de reservas por sala e dia/mês para os relatórios (GET /reports/*), mantidos pelo ReservationService.
+-- Quantidade e receita contam no período de início da reserva; os minutos são divididos entre os dias ocupados.
+
+CREATE TABLE room_daily_stats (
+    room_id          uuid          NOT NULL,
+    stats_day        date          NOT NULL,
+    reservations     integer       NOT NULL,
+    reserved_minutes bigint        NOT NULL,
+    revenue          numeric(38,2) NOT NULL,
+    CONSTRAINT room_daily_stats_pkey PRIMARY KEY (room_id, stats_day),
+    CONSTRAINT fk_room_daily_stats_room FOREIGN KEY (room_id) REFERENCES rooms (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_room_daily_stats_day ON room_daily_stats (stats_day);
+
+-- Carga inicial a partir das reservas existentes
+INSERT INTO room_daily_stats (room_id, stats_day, reservations, reserved_minutes, revenue)
+SELECT r.room_id,
+       d.day::date,
+       COUNT(*) FILTER (WHERE d.day = date_trunc('day', r.start_time)),
+       SUM(FLOOR(EXTRACT(EPOCH FROM LEAST(r.end_time, d.day + INTERVAL '1 day') - GREATEST(r.start_time, d.day)) / 60))::bigint,
+       COALESCE(SUM(r.total_cost) FILTER (WHERE d.day = date_trunc('day', r.start_time)), 0)
+FROM reservation r
+CROSS JOIN LATERAL generate_series(date_trunc('day', r.start_time), r.end_time, INTERVAL '1 day') AS d(day)
+WHERE r.room_id IS NOT NULL
+  AND r.end_time > r.start_time
+  AND d.day < r.end_time
+GROUP BY r.room_id, d.day;
+
+-- Mesmos totais por mês (stats_day = primeiro dia do mês) para períodos longos
+CREATE TABLE room_monthly_stats (
+    room_id          uuid          NOT NULL,
+    stats_day        date          NOT NULL,
+    reservations     integer       NOT NULL,
+    reserved_minutes bigint        NOT NULL,
+    revenue          numeric(38,2) NOT NULL,
+    CONSTRAINT room_monthly_stats_pkey PRIMARY KEY (room_id, stats_day),
+    CONSTRAINT fk_room_monthly_stats_room FOREIGN KEY (room_id) REFERENCES rooms (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_room_monthly_stats_day ON room_monthly_stats (stats_day);
+
+INSERT INTO room_monthly_stats (room_id, stats_day, reservations, reserved_minutes, revenue)
+SELECT room_id, date_trunc('month', stats_day)::date, SUM(reservations), SUM(reserved_minutes), SUM(revenue)
+FROM room_daily_stats
+GROUP BY room_id, date_trunc('month', stats_day);
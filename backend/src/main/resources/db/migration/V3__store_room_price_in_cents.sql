@@ -0,0 +1,6 @@
+-- Preço das salas em centavos por hora (bigint); o cálculo do custo das reservas passa a ser todo em long.
+
+ALTER TABLE rooms ADD COLUMN price_cents bigint;
+UPDATE rooms SET price_cents = COALESCE(ROUND(price * 100), 0);
+ALTER TABLE rooms ALTER COLUMN price_cents SET NOT NULL;
+ALTER TABLE rooms DROP COLUMN price;
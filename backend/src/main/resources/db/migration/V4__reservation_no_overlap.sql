@@ -0,0 +1,11 @@
+-- Duas reservas da mesma sala não podem ter horários sobrepostos: tsrange(start_time, end_time) usa o intervalo [início, fim).
+-- A restrição é a checagem definitiva entre transações e instâncias (no lugar do SELECT ... FOR UPDATE na sala),
+-- e o índice GiST dela atende a consulta de sobreposição do ReservationRepository (operador &&).
+-- Falha se já houver reservas sobrepostas no banco; nesse caso elas precisam ser corrigidas antes.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE reservation
+    ADD CONSTRAINT reservation_no_overlap
+    EXCLUDE USING gist (room_id WITH =, tsrange(start_time, end_time) WITH &&)
+    WHERE (start_time < end_time);
@@ -0,0 +1,25 @@
+-- Ordem dos eventos do outbox por sala: o id vem de blocos pré-alocados por instância (allocationSize 50) e não segue
+-- a ordem em que as transações confirmaram. Cada evento passa a ter um número por sala (room_sequence), sem lacunas,
+-- tirado de room_event_sequence; a linha da sala fica travada até o commit, então a ordem dos números é a ordem de commit.
+
+CREATE TABLE room_event_sequence (
+    room_id       uuid   NOT NULL,
+    last_sequence bigint NOT NULL,
+    CONSTRAINT room_event_sequence_pkey PRIMARY KEY (room_id)
+);
+
+ALTER TABLE outbox_events ADD COLUMN room_sequence bigint;
+
+-- Eventos ainda pendentes recebem números na ordem do id
+UPDATE outbox_events e
+SET room_sequence = n.room_sequence
+FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY room_id ORDER BY id) AS room_sequence FROM outbox_events) n
+WHERE e.id = n.id;
+
+INSERT INTO room_event_sequence (room_id, last_sequence)
+SELECT room_id, MAX(room_sequence) FROM outbox_events GROUP BY room_id;
+
+ALTER TABLE outbox_events ALTER COLUMN room_sequence SET NOT NULL;
+
+DROP INDEX IF EXISTS idx_outbox_events_room_id;
+CREATE UNIQUE INDEX idx_outbox_events_room_sequence ON outbox_events (room_id, room_sequence);
@@ -0,0 +1,8 @@
+-- Eventos que esgotam outbox.publisher.max-attempts ficam estacionados (parked_at) e deixam de segurar a sala:
+-- o publisher passa para o evento seguinte e o estacionado fica na tabela para análise ou reenvio manual.
+
+ALTER TABLE outbox_events ADD COLUMN parked_at timestamp(6);
+
+-- Só eventos pendentes entram na busca do publisher
+DROP INDEX IF EXISTS idx_outbox_events_next_attempt_at;
+CREATE INDEX idx_outbox_events_next_attempt_at ON outbox_events (next_attempt_at, id) WHERE parked_at IS NULL;
@@ -0,0 +1,56 @@
+package com.danielfreitassc.backend.infra.cluster;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class HashRingTest {
+    private static final int ROOMS = 30_000;
+
+    @Test
+    @DisplayName("Should spread rooms evenly and give every node the same ring regardless of list order")
+    public void shouldSpreadRoomsEvenly() {
+        HashRing ring = new HashRing(List.of("node-a", "node-b", "node-c"), 128);
+        HashRing reordered = new HashRing(List.of("node-c", "node-a", "node-b"), 128);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (UUID room : rooms()) {
+            String owner = ring.ownerOf(room);
+            assertEquals(owner, reordered.ownerOf(room));
+            counts.merge(owner, 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        counts.values().forEach(count -> assertTrue(Math.abs(count - ROOMS / 3) < ROOMS / 3 * 0.15, "Distribuição desigual: " + counts));
+    }
+
+    @Test
+    @DisplayName("Should only move rooms to the new node when a node joins")
+    public void shouldMoveOnlyRoomsOfNewNode() {
+        HashRing before = new HashRing(List.of("node-a", "node-b", "node-c"), 128);
+        HashRing after = new HashRing(List.of("node-a", "node-b", "node-c", "node-d"), 128);
+        int moved = 0;
+
+        for (UUID room : rooms()) {
+            String owner = after.ownerOf(room);
+            if (!owner.equals(before.ownerOf(room))) {
+                assertEquals("node-d", owner);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > ROOMS / 4 * 0.8 && moved < ROOMS / 4 * 1.2, "Salas movidas: " + moved);
+    }
+
+    private static List<UUID> rooms() {
+        Random random = new Random(42);
+        return random.longs(ROOMS).mapToObj(bits -> new UUID(bits, random.nextLong())).toList();
+    }
+}
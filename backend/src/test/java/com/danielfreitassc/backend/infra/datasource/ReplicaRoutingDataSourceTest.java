@@ -0,0 +1,131 @@
+package com.danielfreitassc.backend.infra.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+
+// Primário e réplicas são bancos H2 em memória; a "replicação" é a tabela replica_lag de cada réplica
+public class ReplicaRoutingDataSourceTest {
+    private final DataSource primary = h2("primary");
+    private final DataSource replica1 = h2("replica1");
+    private final DataSource replica2 = h2("replica2");
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    public void setUp() {
+        setLag(replica1, 0);
+        setLag(replica2, 0);
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofSeconds(2), Duration.ofSeconds(5), "SELECT lag FROM replica_lag", new SimpleMeterRegistry());
+        routing.checkLag();
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to the replicas in rotation and the rest to the primary")
+    public void shouldRouteReadOnlyTransactions() {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        String first = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+        String second = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+
+        assertEquals(List.of("replica1", "replica2"), List.of(first, second).stream().sorted().toList());
+        assertEquals("primary", readWrite.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class)));
+    }
+
+    @Test
+    @DisplayName("Should skip lagging replicas and fall back to the primary when all of them lag")
+    public void shouldSkipLaggingReplicas() throws SQLException {
+        setLag(replica1, 10);
+        routing.checkLag();
+
+        assertEquals("replica2", nodeOf(routing));
+        assertEquals("replica2", nodeOf(routing));
+
+        setLag(replica2, 10);
+        routing.checkLag();
+
+        assertEquals("primary", nodeOf(routing));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary while the client's write marker is recent, on any instance")
+    public void shouldReadOwnWritesFromPrimary() throws SQLException {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        routing.recordWrite(writeResponse);
+        Cookie marker = writeResponse.getCookie(ReplicaRoutingDataSource.WRITE_MARKER_COOKIE);
+
+        // Outra instância, sem nenhum estado da escrita, recebe a leitura seguinte
+        ReplicaRoutingDataSource otherInstance = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofSeconds(2), Duration.ofSeconds(5), "SELECT lag FROM replica_lag", new SimpleMeterRegistry());
+        otherInstance.checkLag();
+
+        MockHttpServletRequest withCookie = new MockHttpServletRequest("GET", "/reservation");
+        withCookie.setCookies(marker);
+        assertEquals("primary", nodeOf(otherInstance, withCookie));
+
+        MockHttpServletRequest withHeader = new MockHttpServletRequest("GET", "/reservation");
+        withHeader.addHeader(ReplicaRoutingDataSource.WRITE_MARKER_HEADER, writeResponse.getHeader(ReplicaRoutingDataSource.WRITE_MARKER_HEADER));
+        assertEquals("primary", nodeOf(otherInstance, withHeader));
+
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/reservation");
+        expired.addHeader(ReplicaRoutingDataSource.WRITE_MARKER_HEADER, String.valueOf(System.currentTimeMillis() - 10_000));
+        assertEquals("replica", nodeOf(otherInstance, expired).substring(0, 7));
+
+        assertEquals("replica", nodeOf(otherInstance, new MockHttpServletRequest("GET", "/reservation")).substring(0, 7));
+    }
+
+    private static String nodeOf(DataSource dataSource, MockHttpServletRequest request) throws SQLException {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            return nodeOf(dataSource);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name varchar(20))");
+        jdbcTemplate.execute("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private static void setLag(DataSource replica, double seconds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(replica);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag double precision)");
+        jdbcTemplate.execute("DELETE FROM replica_lag");
+        jdbcTemplate.update("INSERT INTO replica_lag VALUES (?)", seconds);
+    }
+
+    private static String nodeOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new JdbcTemplate(new SingleConnectionDataSource(connection, true)).queryForObject("SELECT name FROM node", String.class);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.danielfreitassc.backend.infra.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.danielfreitassc.backend.dtos.ReservationEventDto;
+import com.danielfreitassc.backend.models.OutboxEventEntity;
+import com.danielfreitassc.backend.models.ReservationEventType;
+import com.danielfreitassc.backend.repositories.OutboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+public class OutboxPublisherTest {
+    // Eventos com horário no futuro: o publisher agendado da aplicação ainda não os considera devidos
+    private static final LocalDateTime DUE = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> eventIds = new ArrayList<>();
+    private final List<ReservationEventDto> published = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        outboxEventRepository.deleteAllByIdInBatch(eventIds);
+    }
+
+    @Test
+    @DisplayName("Should keep publishing other rooms while the first event of one room fails")
+    public void shouldPublishOtherRoomsWhileOneRoomFails() {
+        UUID failingRoom = UUID.randomUUID();
+        UUID otherRoom = UUID.randomUUID();
+        // Ids menores que os da outra sala e mais eventos que o lote
+        save(failingRoom, 25);
+        save(otherRoom, 3);
+
+        publisher(event -> event.roomId().equals(failingRoom), 10, 20).publishPending(DUE);
+
+        assertEquals(List.of(1L, 2L, 3L), publishedSequences(otherRoom));
+        assertEquals(List.of(), publishedSequences(failingRoom));
+        OutboxEventEntity first = outboxEventRepository.findById(eventIds.get(0)).orElseThrow();
+        assertEquals(1, first.getAttempts());
+    }
+
+    @Test
+    @DisplayName("Should park an event after max attempts and publish the rest of its room")
+    public void shouldParkPoisonEvent() {
+        UUID room = UUID.randomUUID();
+        save(room, 3);
+        OutboxPublisher publisher = publisher(event -> event.roomSequence() == 1, 10, 3);
+
+        for (int i = 0; i < 3; i++) publisher.publishPending(DUE);
+        assertEquals(List.of(), publishedSequences(room));
+
+        publisher.publishPending(DUE);
+        assertEquals(List.of(2L, 3L), publishedSequences(room));
+        OutboxEventEntity poison = outboxEventRepository.findById(eventIds.get(0)).orElseThrow();
+        assertEquals(3, poison.getAttempts());
+        assertNotNull(poison.getParkedAt());
+    }
+
+    private OutboxPublisher publisher(Predicate<ReservationEventDto> failure, int batchSize, int maxAttempts) {
+        OutboxSink sink = event -> {
+            if (failure.test(event)) throw new IllegalStateException("destino indisponível");
+            published.add(event);
+        };
+        return new OutboxPublisher(outboxEventRepository, sink, transactionTemplate, new SimpleMeterRegistry(), batchSize, Duration.ZERO, maxAttempts);
+    }
+
+    private void save(UUID roomId, int count) {
+        List<OutboxEventEntity> events = new ArrayList<>();
+        for (int sequence = 1; sequence <= count; sequence++) {
+            OutboxEventEntity event = new OutboxEventEntity();
+            event.setType(ReservationEventType.RESERVATION_CREATED);
+            event.setRoomId(roomId);
+            event.setRoomSequence(sequence);
+            event.setReservationId(UUID.randomUUID());
+            event.setPayload("{}");
+            event.setOccurredAt(DUE);
+            event.setNextAttemptAt(DUE);
+            events.add(event);
+        }
+        outboxEventRepository.saveAll(events).forEach(event -> eventIds.add(event.getId()));
+    }
+
+    private List<Long> publishedSequences(UUID roomId) {
+        return published.stream().filter(event -> event.roomId().equals(roomId)).map(ReservationEventDto::roomSequence).toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.danielfreitassc.backend.infra.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryLoginAttemptStoreTest {
+    private static final Instant NOW = Instant.parse("2024-10-01T09:00:00Z");
+
+    private final InMemoryLoginAttemptStore store = new InMemoryLoginAttemptStore(4, Duration.ofMinutes(15), 1000);
+
+    @Test
+    @DisplayName("Should count only the failures inside the sliding window")
+    public void shouldCountFailuresInsideWindow() {
+        assertEquals(1, store.recordFailure("ana", NOW));
+        assertEquals(2, store.recordFailure("ana", NOW.plusSeconds(60)));
+        assertEquals(3, store.recordFailure("ana", NOW.plus(Duration.ofMinutes(10))));
+
+        // A primeira falha saiu da janela de 15 minutos
+        assertEquals(3, store.recordFailure("ana", NOW.plus(Duration.ofMinutes(15))));
+        assertEquals(1, store.recordFailure("bia", NOW));
+    }
+
+    @Test
+    @DisplayName("Should report whether there was something to clear")
+    public void shouldClearOnlyTrackedUsers() {
+        assertFalse(store.clear("ana"));
+
+        store.recordFailure("ana", NOW);
+
+        assertTrue(store.clear("ana"));
+        assertEquals(1, store.recordFailure("ana", NOW.plusSeconds(1)));
+    }
+}
@@ -0,0 +1,51 @@
+package com.danielfreitassc.backend.infra.security;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.danielfreitassc.backend.models.UserEntity;
+import com.danielfreitassc.backend.models.UserRole;
+import com.danielfreitassc.backend.repositories.UserRepository;
+
+public class TokenAuthenticationCacheTest {
+    private final TokenService tokenService = new TokenService("test-secret");
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private TokenAuthenticationCache cache;
+    private String token;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new TokenAuthenticationCache(tokenService, userRepository, 100, Duration.ofMinutes(10));
+        token = tokenService.generateToken(new UserEntity("Ana", "ana", "", UserRole.ADMIN));
+    }
+
+    @Test
+    @DisplayName("Should not cache a user loaded while the same user was being evicted")
+    public void shouldDiscardLoadRacingWithEviction() {
+        UserEntity stale = new UserEntity("Ana", "ana", "", UserRole.ADMIN);
+        UserEntity current = new UserEntity("Ana", "ana", "", UserRole.CUSTOMER);
+        // A alteração do papel termina (e remove o usuário do cache) enquanto a versão antiga ainda está sendo carregada
+        when(userRepository.findByUsername("ana")).thenAnswer(invocation -> {
+            cache.evictUser("ana");
+            return stale;
+        }).thenReturn(current);
+
+        cache.resolve(token);
+        UserDetails resolved = cache.resolve(token);
+
+        assertEquals(current.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList(),
+                resolved.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        verify(userRepository, times(2)).findByUsername("ana");
+    }
+}
@@ -0,0 +1,100 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class IdempotencyStoreTest {
+    private IdempotencyStore store;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    public void setUp() {
+        store = new IdempotencyStore(100, Duration.ofMinutes(1));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should replay the stored result for a repeated key")
+    public void shouldReplayResult() {
+        String first = store.execute("ana:1", "payload", () -> "reserva-" + executions.incrementAndGet());
+        String second = store.execute("ana:1", "payload", () -> "reserva-" + executions.incrementAndGet());
+
+        assertEquals("reserva-1", first);
+        assertEquals("reserva-1", second);
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a repeated key with a different payload")
+    public void shouldRejectDifferentPayload() {
+        store.execute("ana:1", "payload", () -> "reserva");
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> store.execute("ana:1", "outro payload", () -> "reserva"));
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should not store failed executions")
+    public void shouldRetryAfterFailure() {
+        assertThrows(IllegalStateException.class, () -> store.execute("ana:1", "payload", () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("reserva", store.execute("ana:1", "payload", () -> "reserva"));
+    }
+
+    @Test
+    @DisplayName("Should run concurrent duplicates only once")
+    public void shouldCoalesceConcurrentDuplicates() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> store.execute("ana:1", "payload", () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "reserva";
+            }));
+            while (executions.get() == 0) Thread.onSpinWait();
+            FutureTask<String> second = new FutureTask<>(() -> store.execute("ana:1", "payload", () -> "duplicada-" + executions.incrementAndGet()));
+            Thread duplicate = new Thread(second);
+            duplicate.start();
+            // Só libera a primeira execução depois que a duplicada estiver esperando pelo resultado dela.
+            while (duplicate.getState() != Thread.State.WAITING) {
+                if (second.isDone()) fail("A requisição duplicada não esperou a execução em andamento");
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+            assertEquals("reserva", first.get());
+            assertEquals("reserva", second.get());
+            assertEquals(1, executions.get());
+            duplicate.join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
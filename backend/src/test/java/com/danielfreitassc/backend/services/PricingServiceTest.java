@@ -0,0 +1,63 @@
+package com.danielfreitassc.backend.services;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.danielfreitassc.backend.models.RoomEntity;
+import com.danielfreitassc.backend.models.RoomStatus;
+
+public class PricingServiceTest {
+    // Terça-feira
+    private static final LocalDateTime TUESDAY = LocalDateTime.of(2024, 10, 1, 9, 0);
+
+    private final RoomEntity room = new RoomEntity(UUID.randomUUID(), "Sala de Reunião", "AC466", "Bloco C", 40, 29990L, RoomStatus.DISPONIVEL, Timestamp.from(Instant.now()));
+
+    @Test
+    @DisplayName("Should charge the exact minutes without rounding the duration to hundredths of an hour")
+    public void shouldChargeExactMinutes() {
+        PricingService pricingService = new PricingService("08:00", "18:00", BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, "");
+
+        // 299,90 * 97 / 60 = 484,8383...; arredondando a duração para 1,62 h seriam 485,84
+        assertEquals(48484L, pricingService.calculateTotalCostCents(room, TUESDAY, TUESDAY.plusMinutes(97)));
+        assertEquals(new BigDecimal("484.84"), pricingService.calculateTotalCost(room, TUESDAY, TUESDAY.plusMinutes(97)));
+    }
+
+    @Test
+    @DisplayName("Should apply peak, off-peak, weekend and location multipliers minute by minute")
+    public void shouldApplyRateTable() {
+        PricingService pricingService = new PricingService("08:00", "18:00", new BigDecimal("1.50"), new BigDecimal("0.50"), new BigDecimal("2"), " bloco c =1.10");
+        RoomEntity flatRoom = new RoomEntity(UUID.randomUUID(), "Sala", "A1", "Bloco A", 10, 6000L, RoomStatus.DISPONIVEL, null);
+        RoomEntity locationRoom = new RoomEntity(UUID.randomUUID(), "Sala", "C1", "Bloco C", 10, 6000L, RoomStatus.DISPONIVEL, null);
+
+        // 17:00-19:00: 1 h de pico (90,00) + 1 h fora do pico (30,00)
+        LocalDateTime start = TUESDAY.withHour(17);
+        assertEquals(12000L, pricingService.calculateTotalCostCents(flatRoom, start, start.plusHours(2)));
+        assertEquals(13200L, pricingService.calculateTotalCostCents(locationRoom, start, start.plusHours(2)));
+
+        // Sexta 23:00 até sábado 01:00: 1 h fora do pico (30,00) + 1 h de fim de semana (120,00)
+        LocalDateTime friday = LocalDateTime.of(2024, 10, 4, 23, 0);
+        assertEquals(15000L, pricingService.calculateTotalCostCents(flatRoom, friday, friday.plusHours(2)));
+
+        // Domingo 23:00 até segunda 01:00 passa pelo fim da tabela semanal
+        LocalDateTime sunday = LocalDateTime.of(2024, 10, 6, 23, 0);
+        assertEquals(15000L, pricingService.calculateTotalCostCents(flatRoom, sunday, sunday.plusHours(2)));
+    }
+
+    @Test
+    @DisplayName("Should reject reservations without a positive duration")
+    public void shouldRejectInvalidDuration() {
+        PricingService pricingService = new PricingService("08:00", "18:00", BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, "");
+
+        assertThrows(ResponseStatusException.class, () -> pricingService.calculateTotalCostCents(room, TUESDAY, TUESDAY.minusMinutes(1)));
+        assertThrows(ResponseStatusException.class, () -> pricingService.calculateTotalCostCents(room, TUESDAY, TUESDAY.plusSeconds(59)));
+    }
+}
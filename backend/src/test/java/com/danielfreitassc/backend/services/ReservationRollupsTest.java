@@ -0,0 +1,40 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ReservationRollupsTest {
+    private static final LocalDate DAY = LocalDate.of(2024, 10, 1);
+
+    @Test
+    @DisplayName("Should count all minutes on the day of a same-day reservation")
+    public void shouldCountSameDay() {
+        Map<LocalDate, Long> minutes = ReservationRollups.minutesPerDay(DAY.atTime(10, 0), DAY.atTime(11, 30));
+
+        assertEquals(Map.of(DAY, 90L), minutes);
+    }
+
+    @Test
+    @DisplayName("Should split minutes across the days a reservation spans")
+    public void shouldSplitAcrossMidnight() {
+        LocalDateTime start = DAY.atTime(22, 0);
+        LocalDateTime end = DAY.plusDays(2).atTime(1, 0);
+
+        Map<LocalDate, Long> minutes = ReservationRollups.minutesPerDay(start, end);
+
+        assertEquals(Map.of(DAY, 120L, DAY.plusDays(1), 1440L, DAY.plusDays(2), 60L), minutes);
+    }
+
+    @Test
+    @DisplayName("Should not touch the next day when ending exactly at midnight")
+    public void shouldIgnoreEndAtMidnight() {
+        Map<LocalDate, Long> minutes = ReservationRollups.minutesPerDay(DAY.atTime(23, 0), DAY.plusDays(1).atStartOfDay());
+
+        assertEquals(Map.of(DAY, 60L), minutes);
+    }
+}
@@ -0,0 +1,100 @@
+package com.danielfreitassc.backend.services;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RoomScheduleTest {
+    private static final LocalDateTime NINE = LocalDateTime.of(2024, 10, 1, 9, 0);
+    private static final LocalDateTime TEN = NINE.plusHours(1);
+    private static final LocalDateTime ELEVEN = NINE.plusHours(2);
+    private static final LocalDateTime NOON = NINE.plusHours(3);
+
+    private RoomSchedule schedule;
+    private UUID reservationId;
+
+    @BeforeEach
+    public void setUp() {
+        schedule = new RoomSchedule();
+        reservationId = UUID.randomUUID();
+        schedule.add(reservationId, TEN, ELEVEN);
+    }
+
+    @Test
+    @DisplayName("Should reject intervals overlapping an existing reservation")
+    public void shouldRejectOverlap() {
+        assertFalse(schedule.isAvailable(NINE, TEN.plusMinutes(1), null));
+        assertFalse(schedule.isAvailable(TEN.plusMinutes(30), NOON, null));
+        assertFalse(schedule.isAvailable(NINE, NOON, null));
+    }
+
+    @Test
+    @DisplayName("Should accept back-to-back intervals")
+    public void shouldAcceptAdjacentIntervals() {
+        assertTrue(schedule.isAvailable(NINE, TEN, null));
+        assertTrue(schedule.isAvailable(ELEVEN, NOON, null));
+    }
+
+    @Test
+    @DisplayName("Should ignore the reservation being updated")
+    public void shouldIgnoreOwnReservation() {
+        schedule.add(UUID.randomUUID(), ELEVEN, NOON);
+
+        assertTrue(schedule.isAvailable(TEN.plusMinutes(30), ELEVEN, reservationId));
+        assertFalse(schedule.isAvailable(TEN.plusMinutes(30), NOON, reservationId));
+    }
+
+    @Test
+    @DisplayName("Should free the interval once the reservation is removed")
+    public void shouldFreeRemovedInterval() {
+        schedule.remove(reservationId, TEN);
+
+        assertTrue(schedule.isAvailable(TEN, ELEVEN, null));
+        assertTrue(schedule.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep a shared 15-minute slot occupied after removing one of its reservations")
+    public void shouldRebuildSharedSlotOnRemove() {
+        UUID neighbourId = UUID.randomUUID();
+        schedule.add(neighbourId, ELEVEN.plusMinutes(5), NOON);
+
+        schedule.remove(reservationId, TEN);
+
+        assertTrue(schedule.isAvailable(ELEVEN, ELEVEN.plusMinutes(5), null));
+        assertFalse(schedule.isAvailable(ELEVEN, ELEVEN.plusMinutes(6), null));
+        assertTrue(schedule.isAvailable(TEN, ELEVEN, null));
+    }
+
+    @Test
+    @DisplayName("Should detect reservations spanning midnight")
+    public void shouldHandleMultiDayIntervals() {
+        LocalDateTime lateNight = NINE.withHour(23);
+        schedule.add(UUID.randomUUID(), lateNight, lateNight.plusHours(2));
+
+        assertFalse(schedule.isAvailable(lateNight.plusMinutes(70), lateNight.plusMinutes(80), null));
+        assertTrue(schedule.isAvailable(lateNight.plusHours(2), lateNight.plusHours(3), null));
+        assertFalse(schedule.isAvailable(NINE, NINE.plusDays(2), null));
+    }
+
+    @Test
+    @DisplayName("Should drop reservations that already ended")
+    public void shouldRemoveEndedReservations() {
+        LocalDateTime nextDay = NINE.plusDays(1);
+        schedule.add(UUID.randomUUID(), nextDay, nextDay.plusHours(1));
+
+        schedule.removeEndedBefore(nextDay);
+
+        assertTrue(schedule.isAvailable(TEN, ELEVEN, null));
+        assertFalse(schedule.isAvailable(nextDay, nextDay.plusMinutes(30), null));
+
+        schedule.removeEndedBefore(nextDay.plusHours(1));
+
+        assertTrue(schedule.isEmpty());
+    }
+}
@@ -3,16 +3,26 @@ package com.danielfreitassc.backend.services;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -21,6 +31,7 @@ import com.danielfreitassc.backend.dtos.RoomResponseDto;
 import com.danielfreitassc.backend.mappers.RoomMapper;
 import com.danielfreitassc.backend.models.RoomEntity;
 import com.danielfreitassc.backend.models.RoomStatus;
+import com.danielfreitassc.backend.repositories.ReservationRepository;
 import com.danielfreitassc.backend.repositories.RoomRepository;
 
 @ActiveProfiles("test")
@@ -35,6 +46,12 @@ public class RoomServiceTest {
     @Mock
     private RoomMapper roomMapper;
 
+    @Mock
+    private RoomAvailabilityIndex roomAvailabilityIndex;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
    @Test
     @DisplayName("Should create a room with success")
     public void shouldCreateRoom() {
@@ -45,7 +62,7 @@ public class RoomServiceTest {
             "AC466",
             "Bloco C",
             40,
-            BigDecimal.valueOf(299),
+            29900L,
             RoomStatus.RESERVADO,  
             Timestamp.from(Instant.now())
         );
@@ -56,7 +73,7 @@ public class RoomServiceTest {
             roomEntity.getRoomNumber(),
             roomEntity.getLocation(),
             roomEntity.getCapacity(),
-            roomEntity.getPrice(),
+            BigDecimal.valueOf(roomEntity.getPriceCents(), 2),
             roomEntity.getStatus() 
         );
 
@@ -83,4 +100,33 @@ public class RoomServiceTest {
         assertNotNull(output);
     }
 
+    @Test
+    @DisplayName("Should confirm in the database only the rooms the occupancy bitmaps report as free")
+    public void shouldConfirmOnlyFreeCandidates() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2030, 1, 10, 9, 0);
+        LocalDateTime to = from.plusHours(2);
+        RoomEntity free = room("Sala A");
+        RoomEntity occupied = room("Sala B");
+        RoomEntity bookedElsewhere = room("Sala C");
+        List<UUID> candidateIds = List.of(free.getId(), occupied.getId(), bookedElsewhere.getId());
+
+        doReturn(List.of(free, occupied, bookedElsewhere)).when(roomRepository).findAvailabilityCandidates(0, "");
+        doReturn(Set.of(free.getId(), bookedElsewhere.getId())).when(roomAvailabilityIndex).findFree(candidateIds, from, to);
+        doReturn(List.of(bookedElsewhere.getId())).when(reservationRepository).findRoomIdsBookedBetween(anyCollection(), eq(from), eq(to));
+        doAnswer(invocation -> new RoomResponseDto(invocation.<RoomEntity>getArgument(0).getId(), null, null, null, 0, null, null)).when(roomMapper).toDto(any(RoomEntity.class));
+
+        // Act
+        List<RoomResponseDto> output = roomService.getAvailable(from, to, 0, "");
+
+        // Assert
+        assertEquals(List.of(free.getId()), output.stream().map(RoomResponseDto::id).toList());
+        ArgumentCaptor<Collection<UUID>> confirmed = ArgumentCaptor.captor();
+        verify(reservationRepository).findRoomIdsBookedBetween(confirmed.capture(), eq(from), eq(to));
+        assertEquals(Set.of(free.getId(), bookedElsewhere.getId()), Set.copyOf(confirmed.getValue()));
+    }
+
+    private static RoomEntity room(String name) {
+        return new RoomEntity(UUID.randomUUID(), name, "AC466", "Bloco C", 20, 29900L, RoomStatus.DISPONIVEL, Timestamp.from(Instant.now()));
+    }
 }
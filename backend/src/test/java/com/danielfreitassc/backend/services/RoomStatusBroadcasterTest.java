@@ -0,0 +1,144 @@
+package com.danielfreitassc.backend.services;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.danielfreitassc.backend.dtos.RoomStatusEventDto;
+import com.danielfreitassc.backend.infra.cluster.RoomStatusChannel;
+import com.danielfreitassc.backend.models.RoomStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RoomStatusBroadcasterTest {
+    private RoomStatusBroadcaster broadcaster;
+
+    @AfterEach
+    public void tearDown() {
+        if (broadcaster != null) broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should send each event to its location and to subscribers of all locations")
+    public void shouldFilterByLocation() throws Exception {
+        broadcaster = broadcaster(100);
+        RecordingEmitter blocoA = subscribe("Bloco A");
+        RecordingEmitter all = subscribe(null);
+        RecordingEmitter blocoB = subscribe("bloco b");
+
+        UUID roomA = publish(" bloco a ");
+        UUID roomB = publish("Bloco B");
+
+        assertTrue(blocoA.next().contains(roomA.toString()));
+        assertTrue(all.next().contains(roomA.toString()));
+        assertTrue(all.next().contains(roomB.toString()));
+        assertTrue(blocoB.next().contains(roomB.toString()));
+        assertNull(blocoA.events.poll(200, TimeUnit.MILLISECONDS));
+        assertNull(blocoB.events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber that falls behind without delaying the others")
+    public void shouldDropSlowSubscriber() throws Exception {
+        broadcaster = broadcaster(4);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = subscribe(null, new RecordingEmitter(release));
+        RecordingEmitter fast = subscribe(null);
+
+        for (int i = 0; i < 10; i++) {
+            UUID roomId = publish("Bloco A");
+            // O cliente lento continua preso no primeiro envio
+            assertTrue(fast.next().contains(roomId.toString()));
+        }
+
+        assertEquals(1, broadcaster.getSubscriberCount());
+        release.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(slow.events.size() <= 1);
+    }
+
+    private RoomStatusBroadcaster broadcaster(int queueCapacity) {
+        // Canal que entrega o evento na hora, como o PostgreSQL faria depois do commit
+        RoomStatusChannel channel = mock(RoomStatusChannel.class);
+        AtomicReference<Consumer<String>> handler = new AtomicReference<>();
+        doAnswer(invocation -> {
+            handler.set(invocation.getArgument(0));
+            return null;
+        }).when(channel).listen(any());
+        doAnswer(invocation -> {
+            handler.get().accept(invocation.getArgument(0));
+            return null;
+        }).when(channel).send(anyString());
+        return new RoomStatusBroadcaster(channel, new ObjectMapper().registerModule(new JavaTimeModule()), new SimpleMeterRegistry(), queueCapacity);
+    }
+
+    private RecordingEmitter subscribe(String location) {
+        return subscribe(location, new RecordingEmitter(null));
+    }
+
+    private RecordingEmitter subscribe(String location, RecordingEmitter emitter) {
+        broadcaster.subscribe(location, emitter);
+        return emitter;
+    }
+
+    private UUID publish(String location) {
+        UUID roomId = UUID.randomUUID();
+        broadcaster.publish(new RoomStatusEventDto(roomId, "Sala de Reunião", "AC466", location, RoomStatus.RESERVADO, LocalDateTime.now()));
+        return roomId;
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> frame) throws IOException {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    throw new IOException(exception);
+                }
+            }
+            events.add(frame.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        private String next() throws InterruptedException {
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertTrue(event != null, "evento não recebido");
+            return event;
+        }
+    }
+}